@@ -0,0 +1,91 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.dto.request.CreateTaskRequest;
+import com.application.taskmanager.dto.response.TaskBatchResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Task creation throughput: one {@code createTask} call per task versus one
+ * {@code createTasks} batch (JDBC-batched inserts). Scores are tasks per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchInsertBenchmark {
+
+    private static final int TASKS_PER_INVOCATION = 1000;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private JdbcTemplate jdbc;
+    private long taskListId;
+    private List<CreateTaskRequest> requests;
+
+    @Setup
+    public void setUp() {
+
+        context = BenchmarkApplication.start();
+        taskListId = BenchmarkApplication.seed(context, 1, 0);
+        taskService = context.getBean(TaskService.class);
+        jdbc = context.getBean(JdbcTemplate.class);
+
+        requests = new ArrayList<>();
+        for (int i = 0; i < TASKS_PER_INVOCATION; i++) {
+            CreateTaskRequest request = new CreateTaskRequest();
+            request.setName("Bench " + i);
+            request.setPriority(Priority.values()[i % 3]);
+            request.setEffort(Effort.values()[(i / 3) % 3]);
+            requests.add(request);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() {
+        jdbc.update("DELETE FROM tasks");
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_INVOCATION)
+    public void singleRow(Blackhole blackhole) {
+
+        for (CreateTaskRequest request : requests) {
+            blackhole.consume(taskService.createTask(taskListId, request));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TASKS_PER_INVOCATION)
+    public TaskBatchResponse batch() {
+        return taskService.createTasks(taskListId, requests);
+    }
+}
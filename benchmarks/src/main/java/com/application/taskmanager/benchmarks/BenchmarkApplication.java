@@ -0,0 +1,104 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.TaskmanagerApplication;
+import com.application.taskmanager.service.impl.TaskFilterIndexServiceImpl;
+import com.application.taskmanager.service.impl.TaskQuotaServiceImpl;
+import com.application.taskmanager.service.impl.TaskStatsServiceImpl;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Starts the application against a private in-memory H2 database and preloads data.
+ *
+ * <p>
+ * Every context gets its own database and the task quota is disabled. Unless started
+ * with {@link #startWeb}, the web server is not started, so benchmarks measure the
+ * service and persistence layers only.
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+        // Prevent instantiation
+    }
+
+    public static ConfigurableApplicationContext start(String... extraProperties) {
+        return start(WebApplicationType.NONE, extraProperties);
+    }
+
+    /**
+     * Starts the application with the embedded web server on a random port
+     * (see {@code local.server.port}).
+     */
+    public static ConfigurableApplicationContext startWeb(String... extraProperties) {
+        return start(WebApplicationType.SERVLET, extraProperties);
+    }
+
+    private static ConfigurableApplicationContext start(
+            WebApplicationType webApplicationType,
+            String... extraProperties) {
+
+        List<String> properties = new ArrayList<>(List.of(
+                "spring.datasource.url=jdbc:h2:mem:bench-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "taskmanager.quota.max-tasks=0",
+                "taskmanager.quota.max-tasks-per-list=0",
+                "logging.level.root=WARN",
+                "server.port=0"
+        ));
+        properties.addAll(List.of(extraProperties));
+
+        return new SpringApplicationBuilder(TaskmanagerApplication.class)
+                .web(webApplicationType)
+                .properties(properties.toArray(String[]::new))
+                .run();
+    }
+
+    /**
+     * Inserts {@code taskLists} lists and {@code rows} tasks spread evenly across them,
+     * with priority/effort/state cycling through all values (stored as enum codes).
+     *
+     * <p>
+     * The rows bypass the services, so the in-memory state seeded at startup (quota
+     * counters, filter index, statistics summary) is seeded again afterwards. The
+     * database was empty at startup, so this seeds it exactly once.
+     *
+     * @return id of the first TaskList
+     */
+    public static long seed(ConfigurableApplicationContext context, int taskLists, int rows) {
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        for (int i = 0; i < taskLists; i++) {
+            jdbc.update("INSERT INTO task_lists (name) VALUES (?)", "Bench " + i);
+        }
+
+        long firstListId = jdbc.queryForObject("SELECT MIN(id) FROM task_lists", Long.class);
+
+        jdbc.update("""
+                INSERT INTO tasks (id, task_list_id, name, state, priority, effort)
+                SELECT X,
+                       ? + MOD(X, ?),
+                       'Task ' || X,
+                       CASE MOD(X, 2) WHEN 0 THEN 1 ELSE 2 END,
+                       CASE MOD(X, 3) WHEN 0 THEN 3 WHEN 1 THEN 2 ELSE 1 END,
+                       CASE MOD(X / 3, 3) WHEN 0 THEN 3 WHEN 1 THEN 2 ELSE 1 END
+                FROM SYSTEM_RANGE(1, ?)
+                """, firstListId, taskLists, rows);
+
+        // Hibernate's pooled optimizer hands out the allocationSize (50) ids below the
+        // next sequence value, so the first of them must lie above the seeded ids
+        jdbc.execute("ALTER SEQUENCE task_seq RESTART WITH " + (rows + 1 + 50));
+        jdbc.execute("ANALYZE");
+
+        context.getBean(TaskQuotaServiceImpl.class).seed();
+        context.getBean(TaskFilterIndexServiceImpl.class).afterSingletonsInstantiated();
+        context.getBean(TaskStatsServiceImpl.class).afterSingletonsInstantiated();
+
+        return firstListId;
+    }
+}
@@ -0,0 +1,37 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.util.EnumParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@link EnumParser#parseCsv} for typical filter parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EnumParserBenchmark {
+
+    @Param({"HIGH", "high, medium", "HIGH,MEDIUM,LOW"})
+    public String csv;
+
+    @Benchmark
+    public List<Priority> parseCsv() {
+        return EnumParser.parseCsv(csv, Priority.class);
+    }
+}
@@ -0,0 +1,205 @@
+package com.application.taskmanager.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Storage of state/priority/effort as VARCHAR names, H2 ENUM (the V1 schema)
+ * and SMALLINT codes (the current schema), on a large tasks table.
+ *
+ * <p>
+ * Each variant is loaded into its own file-backed H2 database so the on-disk
+ * size can be measured: table and index bytes per row are printed once at
+ * setup (database compacted before and after index creation). The benchmarks
+ * time the list-scoped and global filter queries over the same indexes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class EnumStorageBenchmark {
+
+    private static final int TASK_LISTS = 1000;
+
+    /**
+     * Column type, generated values and bound filter values of one storage variant.
+     */
+    public enum Storage {
+
+        VARCHAR("VARCHAR(16)", "VARCHAR(16)",
+                "CASE MOD(X, 2) WHEN 0 THEN 'PENDING' ELSE 'DONE' END",
+                "CASE MOD(%s, 3) WHEN 0 THEN 'HIGH' WHEN 1 THEN 'MEDIUM' ELSE 'LOW' END",
+                "HIGH", "MEDIUM", "LOW"),
+
+        ENUM("ENUM('PENDING', 'DONE')", "ENUM('HIGH', 'MEDIUM', 'LOW')",
+                "CASE MOD(X, 2) WHEN 0 THEN 'PENDING' ELSE 'DONE' END",
+                "CASE MOD(%s, 3) WHEN 0 THEN 'HIGH' WHEN 1 THEN 'MEDIUM' ELSE 'LOW' END",
+                "HIGH", "MEDIUM", "LOW"),
+
+        SMALLINT("SMALLINT", "SMALLINT",
+                "CASE MOD(X, 2) WHEN 0 THEN 1 ELSE 2 END",
+                "CASE MOD(%s, 3) WHEN 0 THEN 3 WHEN 1 THEN 2 ELSE 1 END",
+                (short) 3, (short) 2, (short) 1);
+
+        private final String stateType;
+        private final String levelType;
+        private final String stateValue;
+        private final String levelValue;
+        private final Object high;
+        private final Object medium;
+        private final Object low;
+
+        Storage(String stateType, String levelType, String stateValue, String levelValue,
+                Object high, Object medium, Object low) {
+            this.stateType = stateType;
+            this.levelType = levelType;
+            this.stateValue = stateValue;
+            this.levelValue = levelValue;
+            this.high = high;
+            this.medium = medium;
+            this.low = low;
+        }
+    }
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"VARCHAR", "ENUM", "SMALLINT"})
+    public Storage storage;
+
+    private Path directory;
+    private String url;
+    private Connection connection;
+    private PreparedStatement listScopedFilter;
+    private PreparedStatement globalFilter;
+
+    @Setup
+    public void setUp() throws Exception {
+
+        directory = Files.createTempDirectory("enum-storage-");
+        url = "jdbc:h2:file:" + directory.resolve("tasks").toAbsolutePath();
+
+        execute("CREATE TABLE tasks ("
+                + "id BIGINT PRIMARY KEY, "
+                + "task_list_id BIGINT NOT NULL, "
+                + "name VARCHAR(255) NOT NULL, "
+                + "state " + storage.stateType + " NOT NULL, "
+                + "priority " + storage.levelType + " NOT NULL, "
+                + "effort " + storage.levelType + " NOT NULL)",
+                "INSERT INTO tasks (id, task_list_id, name, state, priority, effort) "
+                        + "SELECT X, MOD(X, " + TASK_LISTS + "), 'Task ' || X, "
+                        + storage.stateValue + ", "
+                        + storage.levelValue.formatted("X") + ", "
+                        + storage.levelValue.formatted("X / 3") + " "
+                        + "FROM SYSTEM_RANGE(1, " + rows + ")");
+
+        long tableBytes = compactedSize();
+
+        execute("CREATE INDEX idx_tasks_list_priority_effort "
+                        + "ON tasks (task_list_id, priority, effort, id)",
+                "CREATE INDEX idx_tasks_priority_effort ON tasks (priority, effort, id)",
+                "CREATE INDEX idx_tasks_state ON tasks (state, id)",
+                "ANALYZE");
+
+        long indexBytes = compactedSize() - tableBytes;
+
+        System.out.printf("Storage %s (%d rows): table %.1f bytes/row, indexes %.1f bytes/row%n",
+                storage, rows, (double) tableBytes / rows, (double) indexBytes / rows);
+
+        connection = DriverManager.getConnection(url);
+
+        listScopedFilter = connection.prepareStatement(
+                "SELECT id FROM tasks WHERE task_list_id = ? "
+                        + "AND priority IN (?, ?) AND effort = ? ORDER BY id");
+        listScopedFilter.setLong(1, 1);
+        listScopedFilter.setObject(2, storage.high);
+        listScopedFilter.setObject(3, storage.medium);
+        listScopedFilter.setObject(4, storage.low);
+
+        globalFilter = connection.prepareStatement(
+                "SELECT COUNT(*) FROM tasks WHERE priority = ? AND effort IN (?, ?)");
+        globalFilter.setObject(1, storage.high);
+        globalFilter.setObject(2, storage.low);
+        globalFilter.setObject(3, storage.medium);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+
+        connection.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Benchmark
+    public long listScopedFilter() throws SQLException {
+
+        long count = 0;
+
+        try (ResultSet rs = listScopedFilter.executeQuery()) {
+            while (rs.next()) {
+                count += rs.getLong(1);
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public long globalFilter() throws SQLException {
+
+        try (ResultSet rs = globalFilter.executeQuery()) {
+            rs.next();
+            return rs.getLong(1);
+        }
+    }
+
+    private void execute(String... statements) throws SQLException {
+
+        try (Connection setup = DriverManager.getConnection(url);
+             Statement statement = setup.createStatement()) {
+            for (String sql : statements) {
+                statement.execute(sql);
+            }
+        }
+    }
+
+    /**
+     * Size of the database file after a full compaction (closes the database).
+     */
+    private long compactedSize() throws SQLException, IOException {
+
+        execute("SHUTDOWN COMPACT");
+
+        return Files.size(directory.resolve("tasks.mv.db"));
+    }
+}
@@ -0,0 +1,79 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * List-scoped filter queries on a large table with and without the Flyway
+ * filter indexes. The query plan for each variant is printed once at setup.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class FilterIndexBenchmark {
+
+    private static final String PLAN_QUERY = "EXPLAIN SELECT * FROM tasks "
+            + "WHERE task_list_id = ? AND priority IN (3, 2) AND effort = 1 ORDER BY id";
+
+    @Param({"1000000"})
+    public int rows;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+    private long taskListId;
+
+    @Setup
+    public void setUp() {
+
+        context = BenchmarkApplication.start();
+        taskListId = BenchmarkApplication.seed(context, 1000, rows);
+        taskService = context.getBean(TaskService.class);
+
+        JdbcTemplate jdbc = context.getBean(JdbcTemplate.class);
+
+        if (!indexed) {
+            // The foreign key reuses the composite index, so it has to go first
+            jdbc.execute("ALTER TABLE tasks DROP CONSTRAINT fk_tasks_task_list");
+            jdbc.execute("DROP INDEX idx_tasks_list_priority_effort");
+            jdbc.execute("DROP INDEX idx_tasks_priority_effort");
+            jdbc.execute("DROP INDEX idx_tasks_list_id");
+            jdbc.execute("DROP INDEX idx_tasks_priority");
+        }
+
+        System.out.println("Plan (indexed=" + indexed + "): "
+                + jdbc.queryForObject(PLAN_QUERY, String.class, taskListId));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> listScopedFilter() {
+        return taskService.getTasksByTaskListId(taskListId, "HIGH,MEDIUM", "LOW", null, "asc");
+    }
+}
@@ -0,0 +1,71 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.dto.response.TaskPageResponse;
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.service.TaskService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end {@code getAllTasks} against H2 preloaded with 10k/100k/1M rows,
+ * compared with a keyset page of the same query.
+ *
+ * <p>
+ * Run with a larger heap for the 1M case, e.g. {@code -jvmArgs -Xmx4g}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class GetAllTasksBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskService taskService;
+
+    @Setup
+    public void setUp() {
+
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seed(context, 100, rows);
+        taskService = context.getBean(TaskService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> unfiltered() {
+        return taskService.getAllTasks(null, null, null, "asc");
+    }
+
+    @Benchmark
+    public List<TaskResponse> filteredSorted() {
+        return taskService.getAllTasks("HIGH,MEDIUM", "LOW", "priority,effort", "desc");
+    }
+
+    @Benchmark
+    public TaskPageResponse filteredSortedFirstPage() {
+        return taskService.getAllTasksPage("HIGH,MEDIUM", "LOW", "priority,effort", "desc", null, 50);
+    }
+}
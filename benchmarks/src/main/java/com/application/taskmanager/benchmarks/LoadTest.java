@@ -0,0 +1,149 @@
+package com.application.taskmanager.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Closed-loop HTTP load test comparing platform-thread and virtual-thread request execution.
+ *
+ * <p>
+ * For each mode the application is started on a random port against H2 preloaded with
+ * {@code rows} tasks, warmed up, then hit with {@code requests} filtered list requests
+ * keeping {@code concurrency} requests in flight. Throughput and p50/p95/p99 latency per
+ * mode are printed and written to {@code target/loadtest-result.json}.
+ *
+ * <p>
+ * Usage: {@code -Dbenchmark.main=com.application.taskmanager.benchmarks.LoadTest
+ * -Djmh.args="<rows> <requests> <concurrency> <tomcatMaxThreads>"}
+ */
+public final class LoadTest {
+
+    private static final String RESULT_FILE = "target/loadtest-result.json";
+
+    private LoadTest() {
+        // Prevent instantiation
+    }
+
+    public static void main(String[] args) throws Exception {
+
+        int rows = intArg(args, 0, 100_000);
+        int requests = intArg(args, 1, 20_000);
+        int concurrency = intArg(args, 2, 500);
+        int tomcatMaxThreads = intArg(args, 3, 200);
+
+        Map<String, Object> results = new LinkedHashMap<>();
+
+        for (boolean virtual : new boolean[]{false, true}) {
+
+            String mode = virtual ? "virtual" : "platform";
+
+            try (ConfigurableApplicationContext context = BenchmarkApplication.startWeb(
+                    "spring.threads.virtual.enabled=" + virtual,
+                    "server.tomcat.threads.max=" + tomcatMaxThreads)) {
+
+                BenchmarkApplication.seed(context, 100, rows);
+
+                int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+                URI uri = URI.create("http://localhost:" + port
+                        + "/api/tasks?priorities=HIGH,MEDIUM&efforts=LOW&sortBy=priority&limit=50");
+
+                run(uri, Math.min(requests, 2_000), concurrency);
+                Map<String, Object> result = run(uri, requests, concurrency);
+
+                System.out.println(mode + ": " + result);
+                results.put(mode, result);
+            }
+        }
+
+        new ObjectMapper()
+                .enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(new File(RESULT_FILE), results);
+    }
+
+    private static Map<String, Object> run(URI uri, int requests, int concurrency) throws Exception {
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+
+        long[] latencies = new long[requests];
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        List<Future<?>> futures = new ArrayList<>(requests);
+
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+
+            for (int i = 0; i < requests; i++) {
+
+                int index = i;
+                inFlight.acquire();
+
+                futures.add(executor.submit(() -> {
+                    long sent = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response =
+                                client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 200) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - sent;
+                        inFlight.release();
+                    }
+                }));
+            }
+
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+        Arrays.sort(latencies);
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("requests", requests);
+        result.put("concurrency", concurrency);
+        result.put("errors", errors.get());
+        result.put("throughputPerSecond", Math.round(requests / elapsedSeconds));
+        result.put("p50Millis", percentileMillis(latencies, 0.50));
+        result.put("p95Millis", percentileMillis(latencies, 0.95));
+        result.put("p99Millis", percentileMillis(latencies, 0.99));
+
+        return result;
+    }
+
+    private static double percentileMillis(long[] sorted, double percentile) {
+
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+
+    private static int intArg(String[] args, int index, int defaultValue) {
+        return args.length > index ? Integer.parseInt(args[index]) : defaultValue;
+    }
+}
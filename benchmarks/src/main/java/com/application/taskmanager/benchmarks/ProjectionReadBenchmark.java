@@ -0,0 +1,87 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.repository.TaskRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Read-only listing through managed entities + builder mapping (the previous
+ * service path) versus a constructor-expression projection into {@link TaskResponse}.
+ *
+ * <p>
+ * Run with {@code -prof gc} to compare allocated bytes per operation; divide by
+ * {@code rows} for the per-row saving.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionReadBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private TransactionTemplate readOnly;
+
+    @Setup
+    public void setUp() {
+
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seed(context, 10, rows);
+        taskRepository = context.getBean(TaskRepository.class);
+
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<TaskResponse> entityThenMap() {
+
+        return readOnly.execute(status -> taskRepository.findAll(Sort.by(Task.Fields.ID))
+                .stream()
+                .map(task -> TaskResponse.builder()
+                        .id(task.getId())
+                        .taskListId(task.getTaskListId())
+                        .name(task.getName())
+                        .state(task.getState())
+                        .priority(task.getPriority())
+                        .effort(task.getEffort())
+                        .build())
+                .toList());
+    }
+
+    @Benchmark
+    public List<TaskResponse> projection() {
+
+        return readOnly.execute(status ->
+                taskRepository.findAllProjected(null, Sort.by(Task.Fields.ID), 0));
+    }
+}
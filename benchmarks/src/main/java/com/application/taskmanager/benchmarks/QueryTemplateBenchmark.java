@@ -0,0 +1,144 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Filtered, sorted listing through a freshly built Criteria query (previous path)
+ * versus a cached JPQL template served from Hibernate's query plan cache.
+ *
+ * <p>
+ * {@code *CreateQuery} measures construction only (up to a ready {@link TypedQuery});
+ * {@code *Execute} runs the query through the repository and includes SQL translation,
+ * which the Criteria path repeats on every call. The filter selects about
+ * {@code rows / 45} Tasks, so execution is not dominated by row transfer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class QueryTemplateBenchmark {
+
+    private static final List<Priority> PRIORITIES = List.of(Priority.HIGH, Priority.MEDIUM);
+    private static final List<Effort> EFFORTS = List.of(Effort.LOW);
+    private static final Sort SORT = Sort.by(Sort.Direction.DESC,
+            Task.Fields.PRIORITY, Task.Fields.EFFORT, Task.Fields.ID);
+
+    // Same text the template cache produces for this shape
+    private static final String TEMPLATE = "select new " + TaskResponse.class.getName()
+            + "(t.id, t.taskListId, t.name, t.state, t.priority, t.effort, t.version) from Task t"
+            + " where t.taskListId = :taskListId and t.priority in (:priority0, :priority1)"
+            + " and t.effort in (:effort0)"
+            + " order by t.priority desc, t.effort desc, t.id desc";
+
+    @Param({"10000"})
+    public int rows;
+
+    private ConfigurableApplicationContext context;
+    private TaskRepository taskRepository;
+    private EntityManager entityManager;
+    private TransactionTemplate readOnly;
+    private Long taskListId;
+
+    @Setup
+    public void setUp() {
+
+        context = BenchmarkApplication.start();
+        BenchmarkApplication.seed(context, 10, rows);
+
+        taskRepository = context.getBean(TaskRepository.class);
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+        taskListId = taskRepository.findAll(Sort.by(Task.Fields.ID)).get(0).getTaskListId();
+
+        readOnly = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnly.setReadOnly(true);
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public TypedQuery<TaskResponse> criteriaCreateQuery() {
+
+        Specification<Task> spec = TaskSpecification.filterTasks(taskListId, PRIORITIES, EFFORTS);
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(cb.construct(
+                TaskResponse.class,
+                root.get(Task.Fields.ID),
+                root.get(Task.Fields.TASK_LIST_ID),
+                root.get(Task.Fields.NAME),
+                root.get(Task.Fields.STATE),
+                root.get(Task.Fields.PRIORITY),
+                root.get(Task.Fields.EFFORT),
+                root.get(Task.Fields.VERSION)));
+        query.where(spec.toPredicate(root, query, cb));
+        query.orderBy(QueryUtils.toOrders(SORT, root, cb));
+
+        return entityManager.createQuery(query);
+    }
+
+    @Benchmark
+    public TypedQuery<TaskResponse> templateCreateQuery() {
+
+        return entityManager.createQuery(TEMPLATE, TaskResponse.class)
+                .setParameter("taskListId", taskListId)
+                .setParameter("priority0", Priority.HIGH)
+                .setParameter("priority1", Priority.MEDIUM)
+                .setParameter("effort0", Effort.LOW);
+    }
+
+    @Benchmark
+    public List<TaskResponse> criteriaExecute() {
+
+        return readOnly.execute(status -> taskRepository.findAllProjected(
+                TaskSpecification.filterTasks(taskListId, PRIORITIES, EFFORTS), SORT, 0));
+    }
+
+    @Benchmark
+    public List<TaskResponse> templateExecute() {
+
+        return readOnly.execute(status -> taskRepository.findAllFiltered(
+                taskListId, PRIORITIES, EFFORTS, SORT));
+    }
+}
@@ -0,0 +1,80 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.repository.specification.TaskSpecification;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks building the Criteria predicate for {@link TaskSpecification#filterTasks}
+ * (no query execution).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskSpecificationBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private EntityManager entityManager;
+
+    @Setup
+    public void setUp() {
+
+        context = BenchmarkApplication.start();
+        entityManager = context.getBean(EntityManagerFactory.class).createEntityManager();
+    }
+
+    @TearDown
+    public void tearDown() {
+
+        entityManager.close();
+        context.close();
+    }
+
+    @Benchmark
+    public Predicate listOnly() {
+        return toPredicate(TaskSpecification.filterTasks(1L, List.of(), List.of()));
+    }
+
+    @Benchmark
+    public Predicate listPrioritiesEfforts() {
+        return toPredicate(TaskSpecification.filterTasks(
+                1L,
+                List.of(Priority.HIGH, Priority.MEDIUM),
+                List.of(Effort.LOW)));
+    }
+
+    private Predicate toPredicate(Specification<Task> spec) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Task> query = cb.createQuery(Task.class);
+        Root<Task> root = query.from(Task.class);
+
+        return spec.toPredicate(root, query, cb);
+    }
+}
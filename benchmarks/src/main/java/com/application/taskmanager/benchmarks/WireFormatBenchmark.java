@@ -0,0 +1,111 @@
+package com.application.taskmanager.benchmarks;
+
+import com.application.taskmanager.config.WireFormatConfig;
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Serialization of a Task listing as JSON, CBOR and Smile (configured as in
+ * {@link WireFormatConfig}), uncompressed and gzip-compressed as by the response
+ * compression filter.
+ *
+ * <p>
+ * The bytes on the wire per variant are printed once at setup; the benchmarks time
+ * the serialization (and compression) of the whole response body.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"10000"})
+    public int rows;
+
+    @Param({"json", "cbor", "smile"})
+    public String format;
+
+    @Param({"none", "gzip"})
+    public String compression;
+
+    private List<TaskResponse> tasks;
+    private ObjectWriter writer;
+    private int size;
+
+    @Setup
+    public void setUp() throws IOException {
+
+        Random random = new Random(42);
+        tasks = new ArrayList<>(rows);
+
+        for (int i = 0; i < rows; i++) {
+            tasks.add(TaskResponse.builder()
+                    .id((long) i + 1)
+                    .taskListId((long) (i % 10) + 1)
+                    .name("Task " + (i + 1))
+                    .state(TaskState.values()[random.nextInt(TaskState.values().length)])
+                    .priority(Priority.values()[random.nextInt(Priority.values().length)])
+                    .effort(Effort.values()[random.nextInt(Effort.values().length)])
+                    .version((long) random.nextInt(5))
+                    .build());
+        }
+
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+
+        switch (format) {
+            case "cbor" -> builder.factory(WireFormatConfig.cborFactory());
+            case "smile" -> builder.factory(WireFormatConfig.smileFactory());
+            default -> {
+                // JSON
+            }
+        }
+
+        writer = builder.build().writer();
+        size = serialize();
+
+        System.out.printf("Wire format %s/%s (%d tasks): %d bytes, %.1f bytes/task%n",
+                format, compression, rows, size, (double) size / rows);
+    }
+
+    @Benchmark
+    public int serialize() throws IOException {
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream(size > 0 ? size : 1 << 16);
+
+        if ("gzip".equals(compression)) {
+            try (OutputStream gzip = new GZIPOutputStream(body, true)) {
+                writer.writeValue(gzip, tasks);
+            }
+        } else {
+            writer.writeValue(body, tasks);
+        }
+
+        return body.size();
+    }
+}
@@ -0,0 +1,70 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micro-benchmarks for the pure (non-I/O) helpers of {@link TaskServiceImpl}:
+ * entity → DTO mapping and sort construction.
+ *
+ * <p>
+ * Lives in the service implementation package to reach the package-private helpers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskServiceImplBenchmark {
+
+    private TaskServiceImpl taskService;
+    private Task task;
+
+    @Setup
+    public void setUp() {
+
+        // Collaborators are not touched by the benchmarked helpers
+        taskService = new TaskServiceImpl(null, null, null, null, null, null, null, null, null, null);
+
+        task = Task.builder()
+                .id(42L)
+                .taskListId(7L)
+                .name("Benchmark task")
+                .state(TaskState.PENDING)
+                .priority(Priority.HIGH)
+                .effort(Effort.MEDIUM)
+                .build();
+    }
+
+    @Benchmark
+    public TaskResponse mapToResponse() {
+        return taskService.mapToResponse(task);
+    }
+
+    @Benchmark
+    public Sort buildSortDefault() {
+        return taskService.buildSort(null, "asc");
+    }
+
+    @Benchmark
+    public Sort buildSortMultiField() {
+        return taskService.buildSort("priority,effort,name", "desc");
+    }
+}
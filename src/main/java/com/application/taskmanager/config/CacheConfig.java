@@ -0,0 +1,23 @@
+package com.application.taskmanager.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Spring's annotation-driven caching.
+ *
+ * <p>
+ * The cache provider (Caffeine), its size/TTL eviction policy and the cache
+ * names are configured in {@code application.properties} under
+ * {@code spring.cache.*}. Hit/miss statistics are published through the
+ * actuator {@code cache.gets} metric.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /**
+     * Positive {@code TaskListRepository.existsById} lookups, keyed by TaskList id.
+     */
+    public static final String TASK_LIST_EXISTS = "taskListExists";
+}
@@ -0,0 +1,42 @@
+package com.application.taskmanager.config;
+
+import com.application.taskmanager.metrics.SqlStatementCounter;
+import com.application.taskmanager.metrics.SqlStatementMetricsInterceptor;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Application-specific metrics, on top of the ones Spring Boot Actuator provides
+ * out of the box (HTTP server requests, Spring Data repository invocations,
+ * Hikari pool, caches). Everything is exported in Prometheus format at
+ * {@code /actuator/prometheus}.
+ *
+ * <p>
+ * Adds a per-request SQL statement count, fed by a Hibernate statement inspector.
+ */
+@Configuration
+@RequiredArgsConstructor
+public class MetricsConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+
+        return properties -> properties.put(
+                AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+
+        registry.addInterceptor(new SqlStatementMetricsInterceptor(meterRegistry))
+                .addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,140 @@
+package com.application.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replica routing.
+ *
+ * <p>
+ * With {@code taskmanager.read-replicas.enabled=true}, the application DataSource is a
+ * {@link LazyConnectionDataSourceProxy} over the primary ({@code spring.datasource.*})
+ * whose read-only variant is a {@link ReadReplicaDataSource} over the pools listed in
+ * {@code taskmanager.read-replicas.urls}. {@code @Transactional(readOnly = true)}
+ * methods (listings, filters, statistics) then run on a replica; everything else,
+ * including Flyway, runs on the primary. The physical connection is only fetched at
+ * the first statement, once the transaction's read-only flag is known.
+ *
+ * <p>
+ * {@link ReadYourWritesFilter} sends clients that have just written to the primary
+ * for {@code taskmanager.read-replicas.sticky-ms}.
+ *
+ * <p>
+ * {@code taskmanager.read-replicas.migrate=true} runs the Flyway migrations on every
+ * replica too. This is meant for local stand-ins (e.g. separate H2 databases), which,
+ * unlike real replicas, do not receive the schema through replication.
+ *
+ * <p>
+ * The filter index is rejected in this mode: it is updated when the primary commits,
+ * and evicts ids it cannot read back, so a lagging replica would evict new Tasks.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskmanager.read-replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    public ReadReplicaConfig(Environment environment) {
+
+        if (environment.getProperty("taskmanager.filter-index.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("Read replicas cannot be combined with the filter index "
+                    + "(taskmanager.filter-index.enabled)");
+        }
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    @Bean
+    public ReadReplicaDataSource readReplicaDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            DataSourceProperties properties,
+            @Value("${taskmanager.read-replicas.urls}") List<String> urls,
+            @Value("${taskmanager.read-replicas.migrate:false}") boolean migrate
+    ) {
+
+        List<DataSource> replicas = new ArrayList<>();
+
+        for (String url : urls) {
+
+            HikariDataSource replica = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            replica.setPoolName("replica-" + (replicas.size() + 1));
+
+            if (migrate) {
+                Flyway.configure()
+                        .dataSource(replica)
+                        .load()
+                        .migrate();
+            }
+
+            replicas.add(replica);
+        }
+
+        return new ReadReplicaDataSource(
+                primaryDataSource, replicas, ReadYourWritesFilter::isPrimaryRequired);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            ReadReplicaDataSource readReplicaDataSource
+    ) {
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(readReplicaDataSource);
+
+        return dataSource;
+    }
+
+    /**
+     * Picked up by the application task executor, which also runs async request
+     * processing, so that work keeps the request's read-your-writes routing.
+     */
+    @Bean
+    public TaskDecorator readYourWritesTaskDecorator() {
+
+        return ReadYourWritesFilter::propagate;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter(
+            @Value("${taskmanager.read-replicas.sticky-ms:5000}") long stickyMs,
+            @Value("${taskmanager.read-replicas.sticky-clients:100000}") long maxClients
+    ) {
+
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+                new ReadYourWritesFilter(Duration.ofMillis(stickyMs), maxClients));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+
+        return registration;
+    }
+}
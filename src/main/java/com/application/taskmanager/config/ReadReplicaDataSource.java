@@ -0,0 +1,93 @@
+package com.application.taskmanager.config;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * DataSource for read-only transactions that spreads connections over a set of
+ * read replicas in round-robin order.
+ *
+ * <p>
+ * While {@code primaryRequired} reports true (a client that has just written, see
+ * {@link ReadYourWritesFilter}), connections come from the primary instead, so the
+ * client never reads a replica that has not caught up with its own write yet.
+ *
+ * <p>
+ * Until the application is ready, every connection comes from the primary: the
+ * startup seeding of the quota counters, filter index and statistics summary must
+ * see every committed write.
+ *
+ * <p>
+ * Closing this DataSource closes the replica pools, not the primary.
+ */
+public class ReadReplicaDataSource extends AbstractDataSource
+        implements ApplicationListener<ApplicationReadyEvent>, AutoCloseable {
+
+    private final DataSource primary;
+    private final List<DataSource> replicas;
+    private final BooleanSupplier primaryRequired;
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile boolean ready;
+
+    public ReadReplicaDataSource(
+            DataSource primary,
+            List<DataSource> replicas,
+            BooleanSupplier primaryRequired
+    ) {
+
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("At least one read replica is required");
+        }
+
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.primaryRequired = primaryRequired;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return select().getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return select().getConnection(username, password);
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        ready = true;
+    }
+
+    public List<DataSource> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    public void close() throws Exception {
+
+        for (DataSource replica : replicas) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private DataSource select() {
+
+        if (!ready || primaryRequired.getAsBoolean()) {
+            return primary;
+        }
+
+        return replicas.get(Math.floorMod(next.getAndIncrement(), replicas.size()));
+    }
+}
@@ -0,0 +1,111 @@
+package com.application.taskmanager.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+/**
+ * Read-your-writes stickiness for read replica routing.
+ *
+ * <p>
+ * A client is identified by its {@code X-Client-Id} header, or its remote address
+ * when the header is absent. After a successful write request (any method other
+ * than GET, HEAD and OPTIONS), the client's requests read from the primary for
+ * {@code taskmanager.read-replicas.sticky-ms}, which should cover the replication lag.
+ *
+ * <p>
+ * The writer is recorded before the write runs, since its response may be committed
+ * (and the client may read again) before the filter chain returns. A write answered
+ * with an error status drops the record again, unless the client was already sticky.
+ *
+ * <p>
+ * The flag is bound to the request thread; work handed to the application task
+ * executor (async request processing) gets it through {@link #propagate(Runnable)}.
+ * Recent writers are kept in a size-bounded cache local to this instance.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesFilter(Duration stickiness, long maxClients) {
+
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickiness)
+                .maximumSize(maxClients)
+                .build();
+    }
+
+    /**
+     * @return true while serving a client that wrote within the stickiness window
+     */
+    public static boolean isPrimaryRequired() {
+        return Boolean.TRUE.equals(PRIMARY_REQUIRED.get());
+    }
+
+    /**
+     * Wraps a task to run with the primary-required flag of the calling thread.
+     */
+    public static Runnable propagate(Runnable task) {
+
+        boolean primaryRequired = isPrimaryRequired();
+
+        return () -> {
+            Boolean previous = PRIMARY_REQUIRED.get();
+            PRIMARY_REQUIRED.set(primaryRequired);
+            try {
+                task.run();
+            } finally {
+                PRIMARY_REQUIRED.set(previous);
+            }
+        };
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain
+    ) throws ServletException, IOException {
+
+        String client = clientKey(request);
+        boolean sticky = recentWriters.getIfPresent(client) != null;
+        boolean write = !SAFE_METHODS.contains(request.getMethod());
+
+        if (write) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+
+        PRIMARY_REQUIRED.set(sticky || write);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            PRIMARY_REQUIRED.remove();
+        }
+
+        if (write && !sticky && response.getStatus() >= 400) {
+            recentWriters.invalidate(client);
+        }
+    }
+
+    private static String clientKey(HttpServletRequest request) {
+
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+
+        return clientId != null && !clientId.isBlank()
+                ? "id:" + clientId
+                : "addr:" + request.getRemoteAddr();
+    }
+}
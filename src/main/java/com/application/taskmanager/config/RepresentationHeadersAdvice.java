@@ -0,0 +1,76 @@
+package com.application.taskmanager.config;
+
+import com.application.taskmanager.util.EntityTags;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Map;
+
+/**
+ * Tells the wire formats of a response body apart (see {@link WireFormatConfig}).
+ *
+ * <p>
+ * The body depends on the Accept header, so every response says so with
+ * {@code Vary: Accept}. A CBOR or Smile body carries the ETag of its own
+ * representation ({@code "3-cbor"}, {@code "3-smile"}); JSON keeps the plain tag.
+ */
+@ControllerAdvice
+public class RepresentationHeadersAdvice implements ResponseBodyAdvice<Object> {
+
+    private static final Map<String, String> TAG_SUFFIXES = Map.of(
+            MediaType.APPLICATION_CBOR_VALUE, "cbor",
+            WireFormatConfig.APPLICATION_SMILE.toString(), "smile");
+
+    @Override
+    public boolean supports(
+            MethodParameter returnType,
+            Class<? extends HttpMessageConverter<?>> converterType
+    ) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response
+    ) {
+
+        HttpHeaders headers = response.getHeaders();
+
+        if (!headers.getVary().contains(HttpHeaders.ACCEPT)) {
+            headers.add(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
+
+        String suffix = TAG_SUFFIXES.get(
+                selectedContentType.getType() + "/" + selectedContentType.getSubtype());
+        String etag = headers.getETag();
+
+        if (suffix == null || etag == null) {
+            return body;
+        }
+
+        String tagged = EntityTags.withSuffix(etag, suffix);
+
+        if (response instanceof ServletServerHttpResponse servlet
+                && servlet.getServletResponse().containsHeader(HttpHeaders.ETAG)) {
+            // Already set on the response by the If-None-Match check
+            servlet.getServletResponse().setHeader(HttpHeaders.ETAG, tagged);
+            headers.remove(HttpHeaders.ETAG);
+        } else {
+            headers.setETag(tagged);
+        }
+
+        return body;
+    }
+}
@@ -0,0 +1,410 @@
+package com.application.taskmanager.config;
+
+import com.application.taskmanager.util.EntityTags;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip compression of response bodies of at least {@code minResponseSize} bytes.
+ *
+ * <p>
+ * The first {@code minResponseSize} bytes of an eligible response are held back. A
+ * response that ends before that is sent as is, with its Content-Length; a larger one
+ * switches to gzip and is streamed from there on. The container's own compression
+ * cannot apply a threshold to chunked responses (JSON bodies have no Content-Length),
+ * so it would compress even the smallest ones.
+ *
+ * <p>
+ * Eligible responses have one of the configured content types and no Content-Encoding
+ * yet; all others (e.g. the Server-Sent Events stream) pass through untouched. Flushes
+ * of a compressed stream are sync flushes, so streamed exports still arrive row by row.
+ *
+ * <ul>
+ *     <li>{@code flushBuffer()} before the first byte of the body commits the headers
+ *         right away; an eligible response is then compressed whatever its size. Flushes
+ *         after part of the body keep holding it (message converters flush after every
+ *         body), except in asynchronous responses, which stream.</li>
+ *     <li>Non-blocking writes ({@code setWriteListener}) pass through uncompressed: a
+ *         held or deflated write cannot honour {@code isReady()}.</li>
+ *     <li>Asynchronous responses are finished at the end of their last dispatch, while
+ *         the response is still open.</li>
+ *     <li>A compressed body is a representation of its own: its ETag gets a
+ *         {@code -gzip} suffix (see {@link EntityTags}).</li>
+ * </ul>
+ */
+public class ResponseCompressionFilter extends OncePerRequestFilter {
+
+    private static final String GZIP = "gzip";
+
+    private static final String RESPONSE_ATTRIBUTE =
+            ResponseCompressionFilter.class.getName() + ".RESPONSE";
+
+    private final int minResponseSize;
+    private final List<MediaType> mediaTypes;
+
+    public ResponseCompressionFilter(int minResponseSize, List<MediaType> mediaTypes) {
+
+        this.minResponseSize = minResponseSize;
+        this.mediaTypes = List.copyOf(mediaTypes);
+    }
+
+    /**
+     * The last dispatch of an asynchronous response finishes it.
+     */
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain chain
+    ) throws ServletException, IOException {
+
+        CompressingResponse compressing = (CompressingResponse) request.getAttribute(RESPONSE_ATTRIBUTE);
+
+        if (compressing == null) {
+            compressing = new CompressingResponse(response, acceptsGzip(request));
+            request.setAttribute(RESPONSE_ATTRIBUTE, compressing);
+            chain.doFilter(request, compressing);
+        } else {
+            // Async dispatch: the response is the one passed to startAsync, already wrapped
+            chain.doFilter(request, response);
+        }
+
+        if (request.isAsyncStarted()) {
+            compressing.streaming = true;
+        } else {
+            compressing.finish();
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+
+        while (headers != null && headers.hasMoreElements()) {
+
+            for (String coding : StringUtils.commaDelimitedListToStringArray(headers.nextElement())) {
+
+                String[] parts = coding.split(";");
+
+                if (GZIP.equalsIgnoreCase(parts[0].trim())
+                        && (parts.length == 1 || !parts[1].trim().matches("q=0(\\.0*)?"))) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private enum Mode {
+        UNDECIDED,
+        HOLDING,
+        PASS_THROUGH,
+        COMPRESSING
+    }
+
+    /**
+     * Holds back the start of the body until the compression decision is made. The
+     * Content-Length set by the application is forwarded only for uncompressed bodies.
+     */
+    private final class CompressingResponse extends HttpServletResponseWrapper {
+
+        private final boolean gzipAccepted;
+
+        private volatile boolean streaming;
+        private Mode mode = Mode.UNDECIDED;
+        private long contentLength = -1;
+        private ByteArrayOutputStream held;
+        private GZIPOutputStream gzip;
+        private ServletOutputStream outputStream;
+        private PrintWriter writer;
+        private ServletOutputStream nonBlocking;
+
+        CompressingResponse(HttpServletResponse response, boolean gzipAccepted) {
+
+            super(response);
+            this.gzipAccepted = gzipAccepted;
+        }
+
+        @Override
+        public void setContentLength(int length) {
+            setContentLengthLong(length);
+        }
+
+        @Override
+        public void setContentLengthLong(long length) {
+
+            if (mode == Mode.PASS_THROUGH) {
+                super.setContentLengthLong(length);
+            } else {
+                contentLength = length;
+            }
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+
+            if (HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)) {
+                setContentLengthLong(Long.parseLong(value));
+            } else {
+                super.addHeader(name, value);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() {
+
+            if (writer != null) {
+                throw new IllegalStateException("getWriter() has already been called");
+            }
+
+            if (outputStream == null) {
+                outputStream = new CompressingOutputStream();
+            }
+
+            return outputStream;
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+
+            if (writer == null) {
+
+                if (outputStream != null) {
+                    throw new IllegalStateException("getOutputStream() has already been called");
+                }
+
+                writer = new PrintWriter(new OutputStreamWriter(
+                        new CompressingOutputStream(), getCharacterEncoding()));
+            }
+
+            return writer;
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+
+            if (writer != null) {
+                writer.flush();
+            }
+
+            if (mode == Mode.UNDECIDED) {
+                decide(true);
+            }
+
+            // Headers only, or a streamed response: commit to gzip now
+            if (mode == Mode.HOLDING && (held.size() == 0 || streaming)) {
+                startCompressing();
+            }
+
+            flush();
+
+            if (mode != Mode.HOLDING) {
+                super.flushBuffer();
+            }
+        }
+
+        @Override
+        public void resetBuffer() {
+
+            if (mode == Mode.HOLDING) {
+                held.reset();
+            }
+
+            super.resetBuffer();
+        }
+
+        @Override
+        public void reset() {
+
+            super.reset();
+
+            // Headers are gone too: decide again at the next write
+            if (mode == Mode.HOLDING) {
+                held = null;
+                mode = Mode.UNDECIDED;
+            }
+            contentLength = -1;
+        }
+
+        /**
+         * Sends what is still held back, or ends the gzip stream.
+         */
+        void finish() throws IOException {
+
+            if (writer != null) {
+                writer.flush();
+            }
+
+            switch (mode) {
+                case UNDECIDED -> {
+                    if (contentLength != -1) {
+                        super.setContentLengthLong(contentLength);
+                    }
+                }
+                case HOLDING -> {
+                    super.setContentLengthLong(held.size());
+                    held.writeTo(super.getOutputStream());
+                }
+                case COMPRESSING -> gzip.finish();
+                case PASS_THROUGH -> {
+                    // already written
+                }
+            }
+        }
+
+        private void write(byte[] bytes, int offset, int length) throws IOException {
+
+            if (mode == Mode.UNDECIDED) {
+                decide(true);
+            }
+
+            switch (mode) {
+                case HOLDING -> {
+                    held.write(bytes, offset, length);
+                    if (held.size() >= minResponseSize) {
+                        startCompressing();
+                    }
+                }
+                case COMPRESSING -> gzip.write(bytes, offset, length);
+                default -> super.getOutputStream().write(bytes, offset, length);
+            }
+        }
+
+        private void flush() throws IOException {
+
+            if (mode == Mode.HOLDING && streaming) {
+                startCompressing();
+            }
+
+            switch (mode) {
+                case PASS_THROUGH -> super.getOutputStream().flush();
+                case COMPRESSING -> gzip.flush();
+                default -> {
+                    // keep holding until the threshold or the end of the response
+                }
+            }
+        }
+
+        /**
+         * Decided at the first write or flush, once the content type is known.
+         */
+        private void decide(boolean mayCompress) {
+
+            String contentType = getContentType();
+            boolean compressible = contentType != null
+                    && getHeader(HttpHeaders.CONTENT_ENCODING) == null
+                    && mediaTypes.stream().anyMatch(type ->
+                            type.equalsTypeAndSubtype(MediaType.parseMediaType(contentType)));
+
+            if (compressible) {
+                super.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+
+            if (compressible && gzipAccepted && mayCompress) {
+                held = new ByteArrayOutputStream(minResponseSize);
+                mode = Mode.HOLDING;
+            } else {
+                mode = Mode.PASS_THROUGH;
+                if (contentLength != -1) {
+                    super.setContentLengthLong(contentLength);
+                }
+            }
+        }
+
+        private void writeNonBlocking(WriteListener listener) {
+
+            if (mode == Mode.HOLDING || mode == Mode.COMPRESSING) {
+                throw new IllegalStateException("Non-blocking writes must start before the body");
+            }
+
+            if (mode == Mode.UNDECIDED) {
+                decide(false);
+            }
+
+            try {
+                nonBlocking = super.getOutputStream();
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+
+            nonBlocking.setWriteListener(listener);
+        }
+
+        private void startCompressing() throws IOException {
+
+            String etag = getHeader(HttpHeaders.ETAG);
+
+            if (etag != null) {
+                super.setHeader(HttpHeaders.ETAG, EntityTags.withSuffix(etag, GZIP));
+            }
+
+            super.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            gzip = new GZIPOutputStream(super.getOutputStream(), true);
+            held.writeTo(gzip);
+            held = null;
+            mode = Mode.COMPRESSING;
+        }
+
+        private final class CompressingOutputStream extends ServletOutputStream {
+
+            @Override
+            public void write(int b) throws IOException {
+                CompressingResponse.this.write(new byte[] {(byte) b}, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int offset, int length) throws IOException {
+                CompressingResponse.this.write(bytes, offset, length);
+            }
+
+            @Override
+            public void flush() throws IOException {
+                CompressingResponse.this.flush();
+            }
+
+            @Override
+            public boolean isReady() {
+                return nonBlocking == null || nonBlocking.isReady();
+            }
+
+            @Override
+            public void setWriteListener(WriteListener listener) {
+                writeNonBlocking(listener);
+            }
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.application.taskmanager.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Settles cross-shard moves left unfinished by a crash or an unreachable shard
+ * (the {@code task_moves} journal of each shard).
+ *
+ * <ul>
+ *     <li>If the target shard has the Task, or a tombstone of it leaving the target
+ *         list, the move completed: only the record is dropped.</li>
+ *     <li>Otherwise the Task is put back into its source list (same id and version,
+ *         next change sequence value) in the transaction that drops the record. If
+ *         the source list is gone meanwhile, so is the Task.</li>
+ * </ul>
+ *
+ * <p>
+ * Runs at startup, before any request is served.
+ */
+@Slf4j
+public final class ShardMoveRecovery {
+
+    private ShardMoveRecovery() {
+        // Prevent instantiation
+    }
+
+    public static void settle(ShardRoutingDataSource shards, ShardRouter router) {
+
+        record Move(long taskId, long targetTaskListId) {
+        }
+
+        JdbcTemplate changeSeq = new JdbcTemplate(shards.getShard(0));
+
+        for (int shard = 0; shard < router.shardCount(); shard++) {
+
+            DataSource source = shards.getShard(shard);
+            JdbcTemplate jdbc = new JdbcTemplate(source);
+            TransactionTemplate transaction = new TransactionTemplate(
+                    new DataSourceTransactionManager(source));
+
+            List<Move> moves = jdbc.query(
+                    "SELECT task_id, target_task_list_id FROM task_moves",
+                    (rs, row) -> new Move(rs.getLong(1), rs.getLong(2)));
+
+            for (Move move : moves) {
+
+                JdbcTemplate target = new JdbcTemplate(
+                        shards.getShard(router.shardOf(move.targetTaskListId())));
+                Long arrived = target.queryForObject(
+                        "SELECT (SELECT COUNT(*) FROM tasks WHERE id = ?) "
+                                + "+ (SELECT COUNT(*) FROM task_tombstones "
+                                + "WHERE task_id = ? AND task_list_id = ?)",
+                        Long.class, move.taskId(), move.taskId(), move.targetTaskListId());
+
+                if (arrived != null && arrived > 0) {
+                    jdbc.update("DELETE FROM task_moves WHERE task_id = ?", move.taskId());
+                    log.info("Completed move of Task {} to TaskList {}",
+                            move.taskId(), move.targetTaskListId());
+                    continue;
+                }
+
+                Long seq = changeSeq.queryForObject("SELECT NEXT VALUE FOR task_change_seq", Long.class);
+
+                transaction.executeWithoutResult(status -> {
+                    jdbc.update("INSERT INTO tasks "
+                                    + "(id, task_list_id, name, state, priority, effort, version, change_seq) "
+                                    + "SELECT m.task_id, m.task_list_id, m.name, m.state, m.priority, "
+                                    + "m.effort, m.version, ? FROM task_moves m "
+                                    + "WHERE m.task_id = ? "
+                                    + "AND EXISTS (SELECT 1 FROM task_lists l WHERE l.id = m.task_list_id)",
+                            seq, move.taskId());
+                    jdbc.update("DELETE FROM task_moves WHERE task_id = ?", move.taskId());
+                });
+
+                log.warn("Undid unfinished move of Task {} to TaskList {}",
+                        move.taskId(), move.targetTaskListId());
+            }
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.application.taskmanager.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Placement of TaskLists (and their Tasks) on shards, and the shard the current
+ * thread works on.
+ *
+ * <p>
+ * A TaskList lives on shard {@code hash(taskListId) mod shardCount}, with all of its
+ * Tasks. {@link ShardRoutingDataSource} hands out connections to the current shard,
+ * which is shard 0 unless a caller switched with {@link #on(int, Supplier)}.
+ *
+ * <p>
+ * Without {@code taskmanager.sharding.enabled=true} there is a single shard and
+ * every method is a pass-through, so services can route unconditionally.
+ */
+@Component
+public class ShardRouter {
+
+    private static final ThreadLocal<Integer> CURRENT = new ThreadLocal<>();
+
+    private final int shardCount;
+
+    public ShardRouter(
+            @Value("${taskmanager.sharding.enabled:false}") boolean enabled,
+            @Value("${taskmanager.sharding.urls:}") List<String> urls
+    ) {
+
+        int configured = (int) urls.stream()
+                .filter(url -> !url.isBlank())
+                .count();
+
+        if (enabled && configured == 0) {
+            throw new IllegalStateException("taskmanager.sharding.urls must list at least one shard");
+        }
+
+        this.shardCount = enabled ? configured : 1;
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Home shard of a TaskList. The id is mixed first, so consecutive ids (identity
+     * column) spread evenly instead of following the modulus.
+     */
+    public int shardOf(Long taskListId) {
+
+        if (shardCount == 1) {
+            return 0;
+        }
+
+        long hash = taskListId * 0x9E3779B97F4A7C15L;
+
+        return (int) Math.floorMod(hash ^ (hash >>> 32), (long) shardCount);
+    }
+
+    /**
+     * @return the shard connections are currently taken from
+     */
+    public int current() {
+
+        Integer shard = CURRENT.get();
+
+        return shard != null ? shard : 0;
+    }
+
+    /**
+     * Runs the action with connections taken from the given shard.
+     *
+     * <p>
+     * Must not be called inside a transaction bound to another shard: its connection
+     * is already held, so the switch would silently not apply.
+     */
+    public <T> T on(int shard, Supplier<T> action) {
+
+        Integer previous = CURRENT.get();
+        int effective = previous != null ? previous : 0;
+
+        if (shard == effective) {
+            return action.get();
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException(
+                    "Cannot switch to shard " + shard + " inside a transaction on shard " + effective);
+        }
+
+        CURRENT.set(shard);
+        try {
+            return action.get();
+        } finally {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+        }
+    }
+
+    public void on(int shard, Runnable action) {
+
+        on(shard, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
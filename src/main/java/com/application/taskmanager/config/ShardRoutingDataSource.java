@@ -0,0 +1,61 @@
+package com.application.taskmanager.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * DataSource that hands out connections to the shard the current thread works on
+ * (see {@link ShardRouter#current()}).
+ *
+ * <p>
+ * Closing this DataSource closes the shard pools.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final ShardRouter router;
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(ShardRouter router, List<DataSource> shards) {
+
+        if (shards.size() != router.shardCount()) {
+            throw new IllegalArgumentException(
+                    "Expected " + router.shardCount() + " shards, got " + shards.size());
+        }
+
+        this.router = router;
+        this.shards = List.copyOf(shards);
+
+        Map<Object, Object> targets = new HashMap<>();
+
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+
+        setTargetDataSources(targets);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public DataSource getShard(int shard) {
+        return shards.get(shard);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return router.current();
+    }
+
+    @Override
+    public void close() throws Exception {
+
+        for (DataSource shard : shards) {
+            if (shard instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.application.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.flywaydb.core.Flyway;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hash-sharded Task storage.
+ *
+ * <p>
+ * With {@code taskmanager.sharding.enabled=true}, every database listed in
+ * {@code taskmanager.sharding.urls} gets the full schema (Flyway runs on each) and the
+ * application DataSource routes to the shard selected by {@link ShardRouter}.
+ * Credentials come from {@code spring.datasource.*}.
+ *
+ * <ul>
+ *     <li>Shard 0 holds the TaskList catalog (the identity column hands out list ids)
+ *         and the change sequence; every other shard holds a copy of the rows of the
+ *         lists it is home to, so the Task foreign key keeps working.</li>
+ *     <li>Each shard's {@code task_seq} starts in its own range of
+ *         {@code 2^}{@value #TASK_ID_RANGE_BITS} ids, so Task ids stay unique across
+ *         shards and a Task keeps its id when moved to another shard.</li>
+ *     <li>Cross-shard moves left unfinished are settled before the DataSource is
+ *         handed out (see {@link ShardMoveRecovery}).</li>
+ * </ul>
+ *
+ * <p>
+ * The per-instance in-memory features (statistics summary, filter index, status
+ * buffer) and read replicas assume a single database and are rejected in this mode.
+ */
+@Configuration
+@ConditionalOnProperty(name = "taskmanager.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    static final int TASK_ID_RANGE_BITS = 48;
+
+    // Must match the INCREMENT BY of task_seq (and the allocationSize of Task.id)
+    private static final int TASK_SEQ_BLOCK = 50;
+
+    private static final Map<String, String> UNSUPPORTED = Map.of(
+            "taskmanager.stats.summary.enabled", "the statistics summary",
+            "taskmanager.filter-index.enabled", "the filter index",
+            "taskmanager.status-buffer.enabled", "the status buffer",
+            "taskmanager.read-replicas.enabled", "read replicas");
+
+    public ShardingConfig(Environment environment) {
+
+        UNSUPPORTED.forEach((property, feature) -> {
+            if (environment.getProperty(property, Boolean.class, false)) {
+                throw new IllegalStateException(
+                        "Sharding cannot be combined with " + feature + " (" + property + ")");
+            }
+        });
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(
+            ShardRouter router,
+            DataSourceProperties properties,
+            @Value("${taskmanager.sharding.urls}") List<String> urls
+    ) {
+
+        List<DataSource> shards = new ArrayList<>();
+
+        for (String url : urls) {
+
+            if (url.isBlank()) {
+                continue;
+            }
+
+            HikariDataSource shard = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(url.trim())
+                    .username(properties.determineUsername())
+                    .password(properties.determinePassword())
+                    .build();
+            shard.setPoolName("shard-" + shards.size());
+
+            Flyway.configure()
+                    .dataSource(shard)
+                    .load()
+                    .migrate();
+
+            reserveTaskIdRange(shard, shards.size());
+            shards.add(shard);
+        }
+
+        ShardRoutingDataSource dataSource = new ShardRoutingDataSource(router, shards);
+        ShardMoveRecovery.settle(dataSource, router);
+
+        return dataSource;
+    }
+
+    /**
+     * Connections are fetched at the first statement, after {@link ShardRouter} has
+     * been set for the transaction.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    /**
+     * Pinned to shard 0, which owns the change sequence, so every shard stamps
+     * changes from the same sequence. Being a different DataSource than the
+     * application one, it never joins (or blocks on) a shard transaction.
+     */
+    @Bean
+    public JdbcTemplate jdbcTemplate(ShardRoutingDataSource shardRoutingDataSource) {
+
+        return new JdbcTemplate(shardRoutingDataSource.getShard(0));
+    }
+
+    /**
+     * Moves the shard's Task id sequence to the start of its range, once.
+     */
+    private static void reserveTaskIdRange(DataSource shard, int index) {
+
+        if (index == 0) {
+            return;
+        }
+
+        JdbcTemplate jdbc = new JdbcTemplate(shard);
+        long rangeStart = (long) index << TASK_ID_RANGE_BITS;
+        Long next = jdbc.queryForObject("SELECT NEXT VALUE FOR task_seq", Long.class);
+
+        if (next == null || next < rangeStart) {
+            // The pooled optimizer uses the block below the returned value
+            jdbc.execute("ALTER SEQUENCE task_seq RESTART WITH " + (rangeStart + TASK_SEQ_BLOCK));
+        }
+    }
+}
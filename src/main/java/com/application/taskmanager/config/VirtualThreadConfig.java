@@ -0,0 +1,41 @@
+package com.application.taskmanager.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Virtual-thread request execution mode.
+ *
+ * <p>
+ * {@code spring.threads.virtual.enabled=true} makes Tomcat and the application task
+ * executor run work on virtual threads. Because virtual threads remove the natural
+ * cap of the platform thread pool, this configuration also wraps the Hikari pool in a
+ * {@link ConcurrencyLimitedDataSource} whose permits equal the pool size, so in-flight
+ * database work never exceeds the number of available connections.
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceConcurrencyLimiter(
+            @Value("${taskmanager.db.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+
+                if (bean instanceof HikariDataSource hikari) {
+                    return new ConcurrencyLimitedDataSource(
+                            hikari, hikari.getMaximumPoolSize(), acquireTimeoutMillis);
+                }
+
+                return bean;
+            }
+        };
+    }
+}
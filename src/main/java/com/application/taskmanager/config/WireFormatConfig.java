@@ -0,0 +1,88 @@
+package com.application.taskmanager.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import java.util.List;
+
+/**
+ * Wire formats and compression of API responses.
+ *
+ * <p>
+ * Besides JSON, request and response bodies may be CBOR ({@code application/cbor}) or
+ * Smile ({@code application/x-jackson-smile}), selected by the Accept / Content-Type
+ * headers. Both are binary encodings of the same documents, built with the
+ * application's Jackson settings. Smile additionally back-references repeated short
+ * string values, so the state, priority and effort names of a listing are written
+ * once each instead of once per row. Each format has its own ETag (see
+ * {@link RepresentationHeadersAdvice}).
+ *
+ * <p>
+ * With {@code taskmanager.compression.enabled=true}, responses are gzip-compressed
+ * for clients that accept it (see {@link ResponseCompressionFilter}).
+ */
+@Configuration
+public class WireFormatConfig {
+
+    public static final MediaType APPLICATION_SMILE = new MediaType("application", "x-jackson-smile");
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder
+    ) {
+
+        return new MappingJackson2CborHttpMessageConverter(
+                builder.factory(cborFactory()).build());
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(
+            Jackson2ObjectMapperBuilder builder
+    ) {
+
+        return new MappingJackson2SmileHttpMessageConverter(
+                builder.factory(smileFactory()).build());
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "taskmanager.compression.enabled", havingValue = "true")
+    public FilterRegistrationBean<ResponseCompressionFilter> responseCompressionFilter(
+            @Value("${taskmanager.compression.min-response-size:2048}") int minResponseSize,
+            @Value("${taskmanager.compression.mime-types:application/json}") List<String> mimeTypes
+    ) {
+
+        List<MediaType> mediaTypes = mimeTypes.stream()
+                .map(String::trim)
+                .map(MediaType::parseMediaType)
+                .toList();
+
+        FilterRegistrationBean<ResponseCompressionFilter> registration = new FilterRegistrationBean<>(
+                new ResponseCompressionFilter(minResponseSize, mediaTypes));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+
+        return registration;
+    }
+
+    public static CBORFactory cborFactory() {
+
+        return new CBORFactory();
+    }
+
+    public static SmileFactory smileFactory() {
+
+        return SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+    }
+}
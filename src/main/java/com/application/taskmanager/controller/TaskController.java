@@ -1,14 +1,36 @@
 package com.application.taskmanager.controller;
 
+import com.application.taskmanager.dto.request.BulkMoveTaskRequest;
+import com.application.taskmanager.dto.request.BulkUpdateTaskStatusRequest;
 import com.application.taskmanager.dto.request.CreateTaskRequest;
 import com.application.taskmanager.dto.request.MoveTaskRequest;
 import com.application.taskmanager.dto.request.UpdateTaskStatusRequest;
+import com.application.taskmanager.dto.response.TaskBatchResponse;
+import com.application.taskmanager.dto.response.TaskBulkResponse;
+import com.application.taskmanager.dto.response.TaskPageResponse;
 import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.dto.response.TaskStatsResponse;
+import com.application.taskmanager.dto.response.TaskSyncResponse;
+import com.application.taskmanager.exception.BadRequestException;
+import com.application.taskmanager.service.TaskEventService;
 import com.application.taskmanager.service.TaskService;
+import com.application.taskmanager.service.TaskStatsService;
+import com.application.taskmanager.service.TaskSyncService;
+import com.application.taskmanager.util.EntityTags;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -16,7 +38,13 @@ import java.util.List;
 @RequestMapping("/api")
 public class TaskController {
 
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
     private final TaskService taskService;
+    private final TaskStatsService taskStatsService;
+    private final TaskEventService taskEventService;
+    private final TaskSyncService taskSyncService;
+    private final ObjectMapper objectMapper;
 
     /**
      * POST /api/task-lists/{taskListId}/tasks
@@ -31,6 +59,18 @@ public class TaskController {
         return taskService.createTask(taskListId, request);
     }
 
+    /**
+     * POST /api/task-lists/{taskListId}/tasks:batch
+     * Creates many Tasks under a specific TaskList, reporting a result per item.
+     */
+    @PostMapping("/task-lists/{taskListId}/tasks:batch")
+    public TaskBatchResponse createTasks(
+            @PathVariable Long taskListId,
+            @RequestBody List<CreateTaskRequest> requests) {
+
+        return taskService.createTasks(taskListId, requests);
+    }
+
     /**
      * GET /api/task-lists/{taskListId}/tasks
      * Returns tasks for specific TaskList with optional filtering and sorting.
@@ -52,6 +92,31 @@ public class TaskController {
         );
     }
 
+    /**
+     * GET /api/task-lists/{taskListId}/tasks?limit={n}&cursor={token}
+     * Returns one keyset page of tasks for specific TaskList.
+     */
+    @GetMapping(value = "/task-lists/{taskListId}/tasks", params = "limit")
+    public TaskPageResponse getTasksPageByTaskList(
+            @PathVariable Long taskListId,
+            @RequestParam(required = false) String priorities,
+            @RequestParam(required = false) String efforts,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit) {
+
+        return taskService.getTasksPageByTaskListId(
+                taskListId,
+                priorities,
+                efforts,
+                sortBy,
+                sortDirection,
+                cursor,
+                limit
+        );
+    }
+
     /**
      * GET /api/tasks
      * Returns all tasks across lists with optional filtering and sorting.
@@ -71,46 +136,219 @@ public class TaskController {
         );
     }
 
+    /**
+     * GET /api/tasks?limit={n}&cursor={token}
+     * Returns one keyset page of tasks across lists.
+     */
+    @GetMapping(value = "/tasks", params = "limit")
+    public TaskPageResponse getAllTasksPage(
+            @RequestParam(required = false) String priorities,
+            @RequestParam(required = false) String efforts,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam int limit) {
+
+        return taskService.getAllTasksPage(
+                priorities,
+                efforts,
+                sortBy,
+                sortDirection,
+                cursor,
+                limit
+        );
+    }
+
+    /**
+     * GET /api/task-lists/{taskListId}/stats
+     * Returns task counts of a TaskList by state, priority and effort.
+     */
+    @GetMapping("/task-lists/{taskListId}/stats")
+    public TaskStatsResponse getTaskListStats(
+            @PathVariable Long taskListId,
+            @RequestParam(required = false) String priorities,
+            @RequestParam(required = false) String efforts) {
+
+        return taskStatsService.getStatsByTaskListId(taskListId, priorities, efforts);
+    }
+
+    /**
+     * GET /api/task-lists/{taskListId}/sync?since={watermark}&limit={n}
+     * Returns what changed in a TaskList since the watermark of the previous sync
+     * (everything when omitted): changed tasks and ids of removed tasks.
+     */
+    @GetMapping("/task-lists/{taskListId}/sync")
+    public TaskSyncResponse syncTaskList(
+            @PathVariable Long taskListId,
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int limit) {
+
+        return taskSyncService.getChanges(taskListId, since, limit);
+    }
+
+    /**
+     * GET /api/task-lists/{taskListId}/events
+     * Server-Sent Events feed of task changes in a TaskList.
+     * Reconnecting clients send Last-Event-ID to receive the events they missed.
+     */
+    @GetMapping(value = "/task-lists/{taskListId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTaskListEvents(
+            @PathVariable Long taskListId,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+
+        Long resumeAfter = null;
+
+        if (lastEventId != null && !lastEventId.isBlank()) {
+            try {
+                resumeAfter = Long.valueOf(lastEventId.trim());
+            } catch (NumberFormatException ex) {
+                throw new BadRequestException("Invalid Last-Event-ID: " + lastEventId);
+            }
+        }
+
+        return taskEventService.subscribe(taskListId, resumeAfter);
+    }
+
+    /**
+     * GET /api/tasks/stats
+     * Returns task counts across lists by state, priority and effort.
+     */
+    @GetMapping("/tasks/stats")
+    public TaskStatsResponse getTaskStats(
+            @RequestParam(required = false) String priorities,
+            @RequestParam(required = false) String efforts) {
+
+        return taskStatsService.getStats(priorities, efforts);
+    }
+
+    /**
+     * GET /api/tasks/export?format=ndjson
+     * Streams all tasks (optionally filtered) as newline-delimited JSON,
+     * writing each row as it is read from the database.
+     */
+    @GetMapping("/tasks/export")
+    public void exportTasks(
+            @RequestParam(required = false) String priorities,
+            @RequestParam(required = false) String efforts,
+            @RequestParam(defaultValue = "ndjson") String format,
+            HttpServletResponse response) throws IOException {
+
+        if (!"ndjson".equalsIgnoreCase(format)) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+
+        // Leave flushing and closing of the servlet stream to the container, so that
+        // a filter error raised before the first row still produces a normal error response.
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+                .withRootValueSeparator("\n")
+                .writeValues(response.getOutputStream())) {
+
+            taskService.exportTasks(priorities, efforts, task -> {
+                try {
+                    writer.write(task);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+            });
+        }
+    }
+
     /**
      * GET /api/tasks/{taskId}
-     * Returns a specific task by ID.
+     * Returns a specific task by ID, with its version as ETag.
+     * Answers 304 without a body when If-None-Match still names the current version,
+     * in whichever representation the client has cached.
      */
     @GetMapping("/tasks/{taskId}")
-    public TaskResponse getTaskById(@PathVariable Long taskId) {
-        return taskService.getTaskById(taskId);
+    public ResponseEntity<TaskResponse> getTaskById(
+            @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+
+        TaskResponse task = taskService.getTaskById(taskId);
+        String etag = EntityTags.of(task.getVersion());
+
+        if (EntityTags.matchesIfNoneMatch(ifNoneMatch, task.getVersion())) {
+            // The representation suffix is added like on a 200 (RepresentationHeadersAdvice)
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(task);
     }
 
     /**
      * PATCH /api/tasks/{taskId}/status
      * Updates task state (PENDING or DONE).
+     * With If-Match, fails with 412 unless the task is still at that version.
      */
     @PatchMapping("/tasks/{taskId}/status")
-    public TaskResponse updateTaskStatus(
+    public ResponseEntity<TaskResponse> updateTaskStatus(
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody UpdateTaskStatusRequest request) {
 
-        return taskService.updateTaskStatus(taskId, request);
+        TaskResponse task = taskService.updateTaskStatus(
+                taskId, request, EntityTags.parseIfMatch(ifMatch));
+
+        return ResponseEntity.ok().eTag(EntityTags.of(task.getVersion())).body(task);
     }
 
     /**
      * PATCH /api/tasks/{taskId}/move
      * Moves task to another TaskList.
+     * With If-Match, fails with 412 unless the task is still at that version.
      */
     @PatchMapping("/tasks/{taskId}/move")
-    public TaskResponse moveTask(
+    public ResponseEntity<TaskResponse> moveTask(
             @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody MoveTaskRequest request) {
 
-        return taskService.moveTask(taskId, request);
+        TaskResponse task = taskService.moveTask(
+                taskId, request, EntityTags.parseIfMatch(ifMatch));
+
+        return ResponseEntity.ok().eTag(EntityTags.of(task.getVersion())).body(task);
+    }
+
+    /**
+     * PATCH /api/tasks/status
+     * Sets the state of all Tasks matching the ids and/or filters in the body.
+     * Runs as one set-based UPDATE and returns the number of Tasks changed.
+     */
+    @PatchMapping("/tasks/status")
+    public TaskBulkResponse updateTasksStatus(
+            @RequestBody BulkUpdateTaskStatusRequest request) {
+
+        return taskService.updateTasksStatus(request);
+    }
+
+    /**
+     * PATCH /api/tasks/move
+     * Moves all Tasks matching the ids and/or filters in the body to another TaskList.
+     * Runs as one set-based UPDATE and returns the number of Tasks moved.
+     */
+    @PatchMapping("/tasks/move")
+    public TaskBulkResponse moveTasks(
+            @RequestBody BulkMoveTaskRequest request) {
+
+        return taskService.moveTasks(request);
     }
 
     /**
      * DELETE /api/tasks/{taskId}
      * Deletes a task.
+     * With If-Match, fails with 412 unless the task is still at that version.
      */
     @DeleteMapping("/tasks/{taskId}")
     @ResponseStatus(HttpStatus.NO_CONTENT)
-    public void deleteTask(@PathVariable Long taskId) {
-        taskService.deleteTask(taskId);
+    public void deleteTask(
+            @PathVariable Long taskId,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+
+        taskService.deleteTask(taskId, EntityTags.parseIfMatch(ifMatch));
     }
-}
\ No newline at end of file
+}
@@ -5,6 +5,7 @@ import com.application.taskmanager.dto.response.TaskListResponse;
 import com.application.taskmanager.service.TaskListService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -36,4 +37,24 @@ public class TaskListController {
     public List<TaskListResponse> getAllTaskLists() {
         return taskListService.getAllTaskLists();
     }
-}
\ No newline at end of file
+
+    /**
+     * DELETE /api/task-lists/{taskListId}
+     * Deletes a TaskList together with all of its tasks.
+     * With {@code async=true} the list disappears immediately (202) and its tasks
+     * are purged in the background in small chunks.
+     */
+    @DeleteMapping("/{taskListId}")
+    public ResponseEntity<Void> deleteTaskList(
+            @PathVariable Long taskListId,
+            @RequestParam(defaultValue = "false") boolean async) {
+
+        if (async) {
+            taskListService.purgeTaskList(taskListId);
+            return ResponseEntity.accepted().build();
+        }
+
+        taskListService.deleteTaskList(taskListId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,31 @@
+package com.application.taskmanager.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Request DTO for moving all selected Tasks to another Task List at once.
+ *
+ * Business Rules:
+ * - Target Task List must exist (validated in Service layer).
+ * - Tasks already in the target list are not touched and not counted.
+ *
+ * Technical Notes:
+ * - Executed as one set-based UPDATE.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkMoveTaskRequest extends TaskSelectionRequest {
+
+    /**
+     * Identifier of the target Task List.
+     *
+     * Validation:
+     * - Must not be null.
+     */
+    @NotNull(message = "Target taskListId is required")
+    private Long targetTaskListId;
+}
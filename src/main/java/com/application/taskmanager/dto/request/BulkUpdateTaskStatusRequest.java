@@ -0,0 +1,32 @@
+package com.application.taskmanager.dto.request;
+
+import com.application.taskmanager.enums.TaskState;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Request DTO for changing the state of all selected Tasks at once.
+ *
+ * Functional Context:
+ * - Closing out a sprint: mark every remaining Task of a list as DONE.
+ *
+ * Technical Notes:
+ * - Executed as one set-based UPDATE; Tasks already in the target state
+ *   are not touched and not counted.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkUpdateTaskStatusRequest extends TaskSelectionRequest {
+
+    /**
+     * Target state of the selected Tasks.
+     *
+     * Validation:
+     * - Must not be null.
+     */
+    @NotNull(message = "State is required")
+    private TaskState state;
+}
@@ -0,0 +1,50 @@
+package com.application.taskmanager.dto.request;
+
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * Selects the Tasks affected by a bulk operation.
+ *
+ * Functional Context:
+ * - Tasks are selected by explicit IDs, by the listing filters, or both
+ *   (all given criteria must match).
+ *
+ * Business Rules:
+ * - At least one criterion must be provided, so a bulk operation never
+ *   touches every Task by accident (validated in Service layer).
+ *
+ * Technical Notes:
+ * - Mutable class required for JSON deserialization (Jackson).
+ * - Translated into a TaskSpecification in the Service layer.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class TaskSelectionRequest {
+
+    /**
+     * Explicit Task identifiers.
+     */
+    private List<Long> ids;
+
+    /**
+     * Restricts the selection to one TaskList.
+     */
+    private Long taskListId;
+
+    /**
+     * Restricts the selection to these priorities.
+     */
+    private List<Priority> priorities;
+
+    /**
+     * Restricts the selection to these efforts.
+     */
+    private List<Effort> efforts;
+}
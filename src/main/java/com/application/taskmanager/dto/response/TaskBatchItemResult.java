@@ -0,0 +1,37 @@
+package com.application.taskmanager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO representing the outcome of one item of a batch Task creation.
+ *
+ * Functional Context:
+ * - Exactly one of {@code task} or {@code error} is present.
+ * - {@code index} refers to the position of the item in the request array.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchItemResult {
+
+    /**
+     * Zero-based position of the item in the request.
+     */
+    private int index;
+
+    /**
+     * Created Task, when the item was accepted.
+     */
+    private TaskResponse task;
+
+    /**
+     * Reason the item was rejected.
+     */
+    private String error;
+}
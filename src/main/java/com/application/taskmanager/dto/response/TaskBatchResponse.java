@@ -0,0 +1,39 @@
+package com.application.taskmanager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO summarizing a batch Task creation.
+ *
+ * Functional Context:
+ * - Returned by {@code POST /api/task-lists/{taskListId}/tasks:batch}.
+ * - Invalid items are reported individually and do not fail the whole batch.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskBatchResponse {
+
+    /**
+     * Number of Tasks created.
+     */
+    private int created;
+
+    /**
+     * Number of items rejected.
+     */
+    private int failed;
+
+    /**
+     * Per-item results, in request order.
+     */
+    private List<TaskBatchItemResult> results;
+}
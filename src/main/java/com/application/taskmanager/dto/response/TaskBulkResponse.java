@@ -0,0 +1,24 @@
+package com.application.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response DTO summarizing a bulk status change or move.
+ *
+ * Functional Context:
+ * - Returned by {@code PATCH /api/tasks/status} and {@code PATCH /api/tasks/move}.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskBulkResponse {
+
+    /**
+     * Number of Tasks changed by the operation.
+     */
+    private long affected;
+}
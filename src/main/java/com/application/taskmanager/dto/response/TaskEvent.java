@@ -0,0 +1,50 @@
+package com.application.taskmanager.dto.response;
+
+import com.application.taskmanager.enums.TaskEventType;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Event pushed on the TaskList change feed (Server-Sent Events).
+ *
+ * Functional Context:
+ * - Sent to subscribers of {@code GET /api/task-lists/{id}/events} after a Task
+ *   mutation commits.
+ * - {@code id} is also the SSE event id; clients reconnect with it as
+ *   {@code Last-Event-ID} to resume.
+ *
+ * Design Principles:
+ * - {@code task} carries the Task after the change (absent for DELETED, CHANGED, RESYNC).
+ * - A MOVED event is delivered to subscribers of both lists.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskEvent {
+
+    /**
+     * Position in the feed, increasing by one per event of this instance.
+     */
+    private long id;
+
+    private TaskEventType type;
+
+    /**
+     * TaskList the event belongs to (the target list for MOVED).
+     */
+    private Long taskListId;
+
+    /**
+     * Source list of a MOVED Task.
+     */
+    private Long previousTaskListId;
+
+    private Long taskId;
+
+    private TaskResponse task;
+}
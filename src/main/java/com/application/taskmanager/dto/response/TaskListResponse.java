@@ -32,4 +32,9 @@ public class TaskListResponse {
      * Display name of the TaskList.
      */
     private String name;
+
+    /**
+     * Row version, incremented on every write.
+     */
+    private Long version;
 }
\ No newline at end of file
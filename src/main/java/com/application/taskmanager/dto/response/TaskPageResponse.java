@@ -0,0 +1,37 @@
+package com.application.taskmanager.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO representing one page of a cursor (keyset) paginated Task listing.
+ *
+ * Functional Context:
+ * - Returned by the Task listing endpoints when a {@code limit} is requested.
+ * - The client passes {@code nextCursor} back as {@code cursor} to fetch the next page.
+ *
+ * Design Principles:
+ * - {@code nextCursor} is opaque to clients and absent on the last page.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskPageResponse {
+
+    /**
+     * Tasks of the current page, in the requested sort order.
+     */
+    private List<TaskResponse> items;
+
+    /**
+     * Opaque token pointing after the last item of this page.
+     */
+    private String nextCursor;
+}
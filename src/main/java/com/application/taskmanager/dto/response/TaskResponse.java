@@ -22,7 +22,7 @@ import lombok.NoArgsConstructor;
  * - Decoupled from persistence entity.
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
@@ -57,4 +57,9 @@ public class TaskResponse {
      * Effort estimation for the Task.
      */
     private Effort effort;
+
+    /**
+     * Row version, incremented on every write. Sent as the ETag.
+     */
+    private Long version;
 }
@@ -0,0 +1,54 @@
+package com.application.taskmanager.dto.response;
+
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Response DTO representing aggregated Task counts.
+ *
+ * Functional Context:
+ * - Returned by the Task statistics endpoints, for one TaskList or all Tasks.
+ *
+ * Design Principles:
+ * - Every enum value is present in its map, with 0 when no Task matches.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskStatsResponse {
+
+    /**
+     * Identifier of the TaskList, absent for global statistics.
+     */
+    private Long taskListId;
+
+    /**
+     * Number of matching Tasks.
+     */
+    private long total;
+
+    /**
+     * Matching Tasks per state.
+     */
+    private Map<TaskState, Long> byState;
+
+    /**
+     * Matching Tasks per priority.
+     */
+    private Map<Priority, Long> byPriority;
+
+    /**
+     * Matching Tasks per effort.
+     */
+    private Map<Effort, Long> byEffort;
+}
@@ -0,0 +1,49 @@
+package com.application.taskmanager.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Response DTO of the TaskList delta sync endpoint.
+ *
+ * Functional Context:
+ * - Lists what changed in a TaskList since the client's watermark: Tasks created,
+ *   updated or moved in, and ids of Tasks deleted or moved out.
+ * - The client stores {@code watermark} and sends it back as {@code since} on the
+ *   next sync; while {@code hasMore} is true it keeps calling right away.
+ *
+ * Design Principles:
+ * - {@code watermark} is opaque to clients.
+ * - Applying {@code tasks} (upsert) and {@code deletedTaskIds} (remove) in any
+ *   order yields the same client state.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class TaskSyncResponse {
+
+    /**
+     * Tasks currently in the list that changed since the watermark.
+     */
+    private List<TaskResponse> tasks;
+
+    /**
+     * Tasks that left the list since the watermark.
+     */
+    private List<Long> deletedTaskIds;
+
+    /**
+     * Position to resume from.
+     */
+    private String watermark;
+
+    /**
+     * True when more changes are pending beyond this response.
+     */
+    private boolean hasMore;
+}
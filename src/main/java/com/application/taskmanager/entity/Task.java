@@ -1,5 +1,8 @@
 package com.application.taskmanager.entity;
 
+import com.application.taskmanager.entity.converter.EffortConverter;
+import com.application.taskmanager.entity.converter.PriorityConverter;
+import com.application.taskmanager.entity.converter.TaskStateConverter;
 import com.application.taskmanager.enums.Effort;
 import com.application.taskmanager.enums.Priority;
 import com.application.taskmanager.enums.TaskState;
@@ -15,8 +18,11 @@ import lombok.*;
 @Builder
 public class Task {
 
+    // Pooled sequence instead of IDENTITY so Hibernate can batch inserts;
+    // allocationSize matches hibernate.jdbc.batch_size.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_seq")
+    @SequenceGenerator(name = "task_seq", sequenceName = "task_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,24 +31,36 @@ public class Task {
     @Column(nullable = false)
     private String name;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = TaskStateConverter.class)
     @Column(nullable = false)
     private TaskState state;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = PriorityConverter.class)
     @Column(nullable = false)
     private Priority priority;
 
-    @Enumerated(EnumType.STRING)
+    @Convert(converter = EffortConverter.class)
     @Column(nullable = false)
     private Effort effort;
 
+    // Optimistic lock; also served as the HTTP ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Position in the change sequence, stamped on every write (delta sync)
+    @Column(nullable = false)
+    private Long changeSeq;
+
     // ---- Field Name Constants ----
     public static final class Fields {
         public static final String ID = "id";
         public static final String TASK_LIST_ID = "taskListId";
+        public static final String NAME = "name";
         public static final String STATE = "state";
         public static final String PRIORITY = "priority";
         public static final String EFFORT = "effort";
+        public static final String VERSION = "version";
+        public static final String CHANGE_SEQ = "changeSeq";
     }
 }
\ No newline at end of file
@@ -19,6 +19,15 @@ public class TaskList {
     @Column(nullable = false)
     private String name;
 
+    // Set while an asynchronous purge deletes the list's tasks; the list is hidden meanwhile
+    @Column(nullable = false)
+    private boolean purging;
+
+    // Optimistic lock
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // ---- Field Name Constants ----
     public static final class Fields {
         public static final String ID = "id";
@@ -0,0 +1,53 @@
+package com.application.taskmanager.entity;
+
+import com.application.taskmanager.entity.converter.EffortConverter;
+import com.application.taskmanager.entity.converter.PriorityConverter;
+import com.application.taskmanager.entity.converter.TaskStateConverter;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Journal entry of a Task moving to a TaskList on another shard, kept on the
+ * source shard while the Task is on its way. Holds the Task as it was before the
+ * move, so it can be put back.
+ */
+@Entity
+@Table(name = "task_moves")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskMove {
+
+    @Id
+    private Long taskId;
+
+    // The list the Task left
+    @Column(nullable = false)
+    private Long taskListId;
+
+    @Column(nullable = false)
+    private Long targetTaskListId;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Convert(converter = TaskStateConverter.class)
+    @Column(nullable = false)
+    private TaskState state;
+
+    @Convert(converter = PriorityConverter.class)
+    @Column(nullable = false)
+    private Priority priority;
+
+    @Convert(converter = EffortConverter.class)
+    @Column(nullable = false)
+    private Effort effort;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -0,0 +1,46 @@
+package com.application.taskmanager.entity;
+
+import com.application.taskmanager.entity.converter.EffortConverter;
+import com.application.taskmanager.entity.converter.PriorityConverter;
+import com.application.taskmanager.entity.converter.TaskStateConverter;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Row of the optional task statistics summary: the number of Tasks of one
+ * TaskList sharing a (state, priority, effort) combination.
+ */
+@Entity
+@Table(name = "task_stats")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskStatsEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskListId;
+
+    @Convert(converter = TaskStateConverter.class)
+    @Column(nullable = false)
+    private TaskState state;
+
+    @Convert(converter = PriorityConverter.class)
+    @Column(nullable = false)
+    private Priority priority;
+
+    @Convert(converter = EffortConverter.class)
+    @Column(nullable = false)
+    private Effort effort;
+
+    @Column(nullable = false)
+    private Long taskCount;
+}
@@ -0,0 +1,32 @@
+package com.application.taskmanager.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Marker left behind when a Task leaves a TaskList (deleted or moved away), so
+ * delta sync can tell clients to drop it.
+ */
+@Entity
+@Table(name = "task_tombstones")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TaskTombstone {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long taskId;
+
+    // The list the Task left
+    @Column(nullable = false)
+    private Long taskListId;
+
+    @Column(nullable = false)
+    private Long changeSeq;
+}
@@ -0,0 +1,71 @@
+package com.application.taskmanager.entity.converter;
+
+import com.application.taskmanager.enums.CodedEnum;
+import jakarta.persistence.AttributeConverter;
+
+import java.lang.reflect.Array;
+
+/**
+ * Maps a {@link CodedEnum} to its SMALLINT code and back.
+ *
+ * <p><b>Technical Notes:</b>
+ * <ul>
+ *     <li>Decoding is an array lookup indexed by code, built once per enum.</li>
+ *     <li>Duplicate codes fail at startup; unknown codes read from the
+ *         database fail loudly instead of mapping to a wrong constant.</li>
+ * </ul>
+ */
+public abstract class CodedEnumConverter<E extends Enum<E> & CodedEnum>
+        implements AttributeConverter<E, Short> {
+
+    private final Class<E> type;
+    private final E[] byCode;
+
+    @SuppressWarnings("unchecked")
+    protected CodedEnumConverter(Class<E> type) {
+
+        this.type = type;
+
+        int maxCode = 0;
+
+        for (E value : type.getEnumConstants()) {
+            if (value.getCode() < 1) {
+                throw new IllegalStateException(
+                        type.getSimpleName() + "." + value + " must have a positive code");
+            }
+            maxCode = Math.max(maxCode, value.getCode());
+        }
+
+        byCode = (E[]) Array.newInstance(type, maxCode + 1);
+
+        for (E value : type.getEnumConstants()) {
+            if (byCode[value.getCode()] != null) {
+                throw new IllegalStateException(
+                        type.getSimpleName() + " code " + value.getCode() + " is used twice");
+            }
+            byCode[value.getCode()] = value;
+        }
+    }
+
+    @Override
+    public Short convertToDatabaseColumn(E attribute) {
+        return attribute == null ? null : attribute.getCode();
+    }
+
+    @Override
+    public E convertToEntityAttribute(Short code) {
+
+        if (code == null) {
+            return null;
+        }
+
+        E value = code > 0 && code < byCode.length ? byCode[code] : null;
+
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Unknown " + type.getSimpleName() + " code: " + code);
+        }
+
+        return value;
+    }
+}
@@ -0,0 +1,12 @@
+package com.application.taskmanager.entity.converter;
+
+import com.application.taskmanager.enums.Effort;
+import jakarta.persistence.Converter;
+
+@Converter
+public class EffortConverter extends CodedEnumConverter<Effort> {
+
+    public EffortConverter() {
+        super(Effort.class);
+    }
+}
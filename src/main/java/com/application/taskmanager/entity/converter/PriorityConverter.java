@@ -0,0 +1,12 @@
+package com.application.taskmanager.entity.converter;
+
+import com.application.taskmanager.enums.Priority;
+import jakarta.persistence.Converter;
+
+@Converter
+public class PriorityConverter extends CodedEnumConverter<Priority> {
+
+    public PriorityConverter() {
+        super(Priority.class);
+    }
+}
@@ -0,0 +1,12 @@
+package com.application.taskmanager.entity.converter;
+
+import com.application.taskmanager.enums.TaskState;
+import jakarta.persistence.Converter;
+
+@Converter
+public class TaskStateConverter extends CodedEnumConverter<TaskState> {
+
+    public TaskStateConverter() {
+        super(TaskState.class);
+    }
+}
@@ -0,0 +1,18 @@
+package com.application.taskmanager.enums;
+
+/**
+ * An enum persisted as an explicit numeric code instead of its name or ordinal.
+ *
+ * <p><b>Technical Notes:</b>
+ * <ul>
+ *     <li>Codes are part of the database contract: never change or reuse one.
+ *         Constants may be renamed or reordered freely.</li>
+ *     <li>Codes of ordered enums follow their meaning (e.g. LOW &lt; HIGH), so
+ *         range comparisons and ORDER BY on the column are semantic.</li>
+ *     <li>Codes are small positive numbers so they fit a SMALLINT column.</li>
+ * </ul>
+ */
+public interface CodedEnum {
+
+    short getCode();
+}
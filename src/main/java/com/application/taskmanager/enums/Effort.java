@@ -1,7 +1,21 @@
 package com.application.taskmanager.enums;
 
-public enum Effort {
-    HIGH,
-    MEDIUM,
-    LOW
-}
\ No newline at end of file
+/**
+ * Codes are stored in the database (see {@link CodedEnum}).
+ */
+public enum Effort implements CodedEnum {
+    HIGH(3),
+    MEDIUM(2),
+    LOW(1);
+
+    private final short code;
+
+    Effort(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
+}
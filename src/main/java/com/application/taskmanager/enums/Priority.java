@@ -1,7 +1,21 @@
 package com.application.taskmanager.enums;
 
-public enum Priority {
-    HIGH,
-    MEDIUM,
-    LOW
+/**
+ * Codes are stored in the database (see {@link CodedEnum}).
+ */
+public enum Priority implements CodedEnum {
+    HIGH(3),
+    MEDIUM(2),
+    LOW(1);
+
+    private final short code;
+
+    Priority(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
 }
@@ -0,0 +1,23 @@
+package com.application.taskmanager.enums;
+
+/**
+ * Kinds of events pushed on the TaskList change feed.
+ */
+public enum TaskEventType {
+
+    CREATED,
+    STATUS_CHANGED,
+    MOVED,
+    DELETED,
+
+    /**
+     * A bulk operation changed an unknown set of Tasks of the list: reload it.
+     */
+    CHANGED,
+
+    /**
+     * The requested resume position is no longer available: reload the list and
+     * continue from this event.
+     */
+    RESYNC
+}
@@ -1,6 +1,20 @@
 package com.application.taskmanager.enums;
 
-public enum TaskState {
-    PENDING,
-    DONE
+/**
+ * Codes are stored in the database (see {@link CodedEnum}).
+ */
+public enum TaskState implements CodedEnum {
+    PENDING(1),
+    DONE(2);
+
+    private final short code;
+
+    TaskState(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
 }
@@ -2,12 +2,20 @@ package com.application.taskmanager.exception.handler;
 
 import com.application.taskmanager.dto.response.ErrorResponse;
 import com.application.taskmanager.exception.BadRequestException;
+import com.application.taskmanager.exception.ConflictException;
+import com.application.taskmanager.exception.PreconditionFailedException;
 import com.application.taskmanager.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.async.AsyncRequestNotUsableException;
+import org.springframework.web.context.request.async.AsyncRequestTimeoutException;
 
 /**
  * GlobalExceptionHandler
@@ -25,6 +33,10 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  * Handles:
  * <ul>
  *     <li>Business exceptions (404, 400)</li>
+ *     <li>Concurrent modification of bulk selections (409)</li>
+ *     <li>Failed conditional requests (412)</li>
+ *     <li>Database capacity exhaustion (503)</li>
+ *     <li>Event streams ending (client gone or timed out; nothing written)</li>
  *     <li>Validation failures</li>
  *     <li>Enum parsing errors</li>
  *     <li>Unexpected system exceptions</li>
@@ -36,11 +48,17 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
  *     <li>Each {@code @ExceptionHandler} maps a specific exception to HTTP status.</li>
  *     <li>Maintains strict response format compliance for CLI evaluation.</li>
  *     <li>Prevents stack traces from leaking to clients.</li>
+ *     <li>Counts every handled exception in the {@code taskmanager.errors} metric.</li>
  * </ul>
  */
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    public static final String ERRORS_METRIC = "taskmanager.errors";
+
+    private final MeterRegistry meterRegistry;
+
     /**
      * Helper method to construct standardized ErrorResponse objects.
      *
@@ -60,6 +78,19 @@ public class GlobalExceptionHandler {
                 .build();
     }
 
+    /**
+     * Increments the error counter tagged with exception type and HTTP status.
+     *
+     * @param ex handled exception
+     * @param status HTTP status returned to the client
+     */
+    private void countError(Exception ex, HttpStatus status) {
+        meterRegistry.counter(ERRORS_METRIC,
+                        "exception", ex.getClass().getSimpleName(),
+                        "status", String.valueOf(status.value()))
+                .increment();
+    }
+
     /**
      * Handles cases where a requested resource is not found.
      *
@@ -73,6 +104,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(ResourceNotFoundException.class)
     public ResponseEntity<ErrorResponse> handleNotFound(ResourceNotFoundException ex) {
+        countError(ex, HttpStatus.NOT_FOUND);
         return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(buildErrorResponse(ex.getMessage()));
     }
@@ -91,10 +123,49 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(BadRequestException.class)
     public ResponseEntity<ErrorResponse> handleBadRequest(BadRequestException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.badRequest()
                 .body(buildErrorResponse(ex.getMessage()));
     }
 
+    /**
+     * Handles writes that collided with a concurrent change.
+     *
+     * <p><b>Functional Behavior:</b>
+     * Triggered when the Tasks selected by a bulk operation change between
+     * counting and updating them. The transaction is rolled back; the client may retry.
+     *
+     * <p><b>HTTP Response:</b> 409 CONFLICT
+     *
+     * @param ex ConflictException
+     * @return standardized error response
+     */
+    @ExceptionHandler(ConflictException.class)
+    public ResponseEntity<ErrorResponse> handleConflict(ConflictException ex) {
+        countError(ex, HttpStatus.CONFLICT);
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(buildErrorResponse(ex.getMessage()));
+    }
+
+    /**
+     * Handles conditional requests whose entity tag no longer matches.
+     *
+     * <p><b>Functional Behavior:</b>
+     * Triggered when the {@code If-Match} header of a write does not match the
+     * current Task version, i.e. another client changed it in the meantime.
+     *
+     * <p><b>HTTP Response:</b> 412 PRECONDITION FAILED
+     *
+     * @param ex PreconditionFailedException
+     * @return standardized error response
+     */
+    @ExceptionHandler(PreconditionFailedException.class)
+    public ResponseEntity<ErrorResponse> handlePreconditionFailed(PreconditionFailedException ex) {
+        countError(ex, HttpStatus.PRECONDITION_FAILED);
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED)
+                .body(buildErrorResponse(ex.getMessage()));
+    }
+
     /**
      * Handles validation failures from @Valid annotated DTOs.
      *
@@ -115,6 +186,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorResponse> handleValidationException(MethodArgumentNotValidException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
 
         String message = ex.getBindingResult()
                 .getFieldErrors()
@@ -148,10 +220,46 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(IllegalArgumentException.class)
     public ResponseEntity<ErrorResponse> handleEnumError(IllegalArgumentException ex) {
+        countError(ex, HttpStatus.BAD_REQUEST);
         return ResponseEntity.badRequest()
                 .body(buildErrorResponse("Invalid request parameter"));
     }
 
+    /**
+     * Handles failure to obtain a database connection.
+     *
+     * <p><b>Functional Behavior:</b>
+     * Triggered when the connection pool (or the virtual-thread concurrency
+     * limiter in front of it) cannot hand out a connection in time.
+     *
+     * <p><b>HTTP Response:</b> 503 SERVICE UNAVAILABLE
+     *
+     * @param ex connection acquisition failure
+     * @return standardized error response
+     */
+    @ExceptionHandler({CannotGetJdbcConnectionException.class, CannotCreateTransactionException.class})
+    public ResponseEntity<ErrorResponse> handleDatabaseUnavailable(RuntimeException ex) {
+        countError(ex, HttpStatus.SERVICE_UNAVAILABLE);
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(buildErrorResponse("Service temporarily unavailable"));
+    }
+
+    /**
+     * Handles the end of an asynchronous response such as the Server-Sent Events stream.
+     *
+     * <p><b>Functional Behavior:</b>
+     * Triggered when the client of a stream disconnects or the stream times out.
+     * This is not an error: the client reconnects with {@code Last-Event-ID}. The
+     * response is already committed as {@code text/event-stream}, so nothing is
+     * written and no error is counted.
+     *
+     * @param ex end of the asynchronous request
+     */
+    @ExceptionHandler({AsyncRequestNotUsableException.class, AsyncRequestTimeoutException.class})
+    public void handleAsyncRequestEnded(Exception ex) {
+        // Nothing to write
+    }
+
     /**
      * Fallback handler for all unexpected exceptions.
      *
@@ -169,6 +277,7 @@ public class GlobalExceptionHandler {
      */
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleGenericException(Exception ex) {
+        countError(ex, HttpStatus.INTERNAL_SERVER_ERROR);
         return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(buildErrorResponse("Unexpected error occurred"));
     }
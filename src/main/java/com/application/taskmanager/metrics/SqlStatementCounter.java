@@ -0,0 +1,37 @@
+package com.application.taskmanager.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate {@link StatementInspector} counting the SQL statements prepared on the current thread.
+ *
+ * <p>
+ * The count is reset at the start of each HTTP request and published per endpoint by
+ * {@link SqlStatementMetricsInterceptor}, which makes N+1 query regressions visible as a
+ * jump in statements per request. Statements are not modified.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<long[]> COUNT = ThreadLocal.withInitial(() -> new long[1]);
+
+    @Override
+    public String inspect(String sql) {
+
+        COUNT.get()[0]++;
+        return sql;
+    }
+
+    /**
+     * Resets the count for the current thread.
+     */
+    public static void reset() {
+        COUNT.get()[0] = 0;
+    }
+
+    /**
+     * Number of statements prepared on the current thread since the last reset.
+     */
+    public static long current() {
+        return COUNT.get()[0];
+    }
+}
@@ -0,0 +1,36 @@
+package com.application.taskmanager.repository;
+
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.repository.projection.TaskGroupCount;
+import com.application.taskmanager.repository.projection.TaskListGroupCount;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Repository fragment for aggregate Task queries.
+ *
+ * Functional Responsibility:
+ * - Computes grouped counts in the database instead of loading Tasks.
+ *
+ * Technical Notes:
+ * - Accepts the same Specifications as the listing endpoints.
+ */
+public interface TaskAggregateRepository {
+
+    /**
+     * Counts Tasks matching the specification grouped by state, priority and effort.
+     *
+     * @param spec optional filter, may be null
+     * @return one row per non-empty (state, priority, effort) combination
+     */
+    List<TaskGroupCount> countGrouped(Specification<Task> spec);
+
+    /**
+     * Counts Tasks matching the specification grouped by TaskList, state, priority and effort.
+     *
+     * @param spec optional filter, may be null
+     * @return one row per non-empty (TaskList, state, priority, effort) combination
+     */
+    List<TaskListGroupCount> countGroupedByTaskList(Specification<Task> spec);
+}
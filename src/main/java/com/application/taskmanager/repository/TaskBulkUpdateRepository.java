@@ -0,0 +1,36 @@
+package com.application.taskmanager.repository;
+
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.TaskState;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Repository fragment for set-based Task updates.
+ *
+ * Functional Responsibility:
+ * - Changes every Task matching a Specification with one UPDATE statement.
+ *
+ * Technical Notes:
+ * - Specifications are evaluated against a CriteriaUpdate, so they receive a
+ *   null CriteriaQuery and must only use the root and the CriteriaBuilder
+ *   (true for all of {@link com.application.taskmanager.repository.specification.TaskSpecification}).
+ * - Every updated row gets its version incremented and is stamped with the
+ *   given change sequence value.
+ * - Bypasses the persistence context; callers must not hold managed Tasks.
+ */
+public interface TaskBulkUpdateRepository {
+
+    /**
+     * Sets the state of all matching Tasks.
+     *
+     * @return number of rows updated
+     */
+    int bulkUpdateState(Specification<Task> spec, TaskState state, Long changeSeq);
+
+    /**
+     * Moves all matching Tasks to the target TaskList.
+     *
+     * @return number of rows updated
+     */
+    int bulkUpdateTaskListId(Specification<Task> spec, Long targetTaskListId, Long changeSeq);
+}
@@ -1,8 +1,15 @@
 package com.application.taskmanager.repository;
 
+import com.application.taskmanager.config.CacheConfig;
+import com.application.taskmanager.dto.response.TaskListResponse;
 import com.application.taskmanager.entity.TaskList;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -19,6 +26,25 @@ import java.util.Optional;
  */
 public interface TaskListRepository extends JpaRepository<TaskList, Long> {
 
+    /**
+     * Checks if a TaskList exists with the given id.
+     *
+     * Functional Use Case:
+     * - Guards every Task create/move and list-scoped read.
+     *
+     * Technical Notes:
+     * - Only positive results are cached, so a list created later is never hidden
+     *   by a stale "false". Entries are evicted by TaskListServiceImpl on create/delete/purge.
+     * - A list being purged counts as gone.
+     *
+     * @param id task list id
+     * @return true if exists, false otherwise
+     */
+    @Override
+    @Cacheable(cacheNames = CacheConfig.TASK_LIST_EXISTS, unless = "!#result")
+    @Query("select count(l) > 0 from TaskList l where l.id = :id and l.purging = false")
+    boolean existsById(@Param("id") Long id);
+
     /**
      * Finds a TaskList by its name.
      *
@@ -40,4 +66,61 @@ public interface TaskListRepository extends JpaRepository<TaskList, Long> {
      * @return true if exists, false otherwise
      */
     boolean existsByName(String name);
-}
\ No newline at end of file
+
+    /**
+     * Returns all TaskLists as response DTOs.
+     *
+     * Technical Notes:
+     * - Constructor expression: no entities are loaded into the persistence context.
+     * - Lists being purged are excluded.
+     *
+     * @return all task lists
+     */
+    @Query("select new com.application.taskmanager.dto.response.TaskListResponse(l.id, l.name, l.version) "
+            + "from TaskList l where l.purging = false")
+    List<TaskListResponse> findAllProjected();
+
+    /**
+     * Deletes a TaskList without loading it first.
+     *
+     * @param id task list id
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("delete from TaskList l where l.id = :id")
+    int deleteTaskListById(@Param("id") Long id);
+
+    /**
+     * Inserts a TaskList row with a given id.
+     *
+     * Functional Use Case:
+     * - Sharding: mirrors a TaskList of the catalog (shard 0) onto its home shard,
+     *   where its Tasks reference it.
+     *
+     * @return number of rows inserted
+     */
+    @Modifying
+    @Query(value = "INSERT INTO task_lists (id, name, purging, version) VALUES (:id, :name, FALSE, 0)",
+            nativeQuery = true)
+    int insertWithId(@Param("id") Long id, @Param("name") String name);
+
+    /**
+     * Flags a TaskList for asynchronous purge, hiding it from lookups.
+     *
+     * @param id task list id
+     * @return number of rows updated (0 if the list is missing or already being purged)
+     */
+    @Modifying
+    @Query("update TaskList l set l.purging = true, l.version = l.version + 1 "
+            + "where l.id = :id and l.purging = false")
+    int markPurging(@Param("id") Long id);
+
+    /**
+     * Ids of TaskLists whose purge has not finished.
+     *
+     * Functional Use Case:
+     * - Resumes interrupted purges at startup.
+     */
+    @Query("select l.id from TaskList l where l.purging = true")
+    List<Long> findPurgingIds();
+}
@@ -0,0 +1,52 @@
+package com.application.taskmanager.repository;
+
+import com.application.taskmanager.entity.TaskMove;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository interface for the cross-shard move journal (sharding).
+ *
+ * Functional Responsibility:
+ * - Records a Task leaving its shard for a TaskList on another shard.
+ * - Drops the records once the move is complete or undone.
+ *
+ * Technical Notes:
+ * - Inserts and deletes are single statements without loading anything.
+ * - No business logic should be implemented here.
+ */
+public interface TaskMoveRepository extends JpaRepository<TaskMove, Long> {
+
+    /**
+     * Records one Task leaving for another shard, as it was before the move.
+     */
+    @Modifying
+    @Query("insert into TaskMove (taskId, taskListId, targetTaskListId, name, state, priority, "
+            + "effort, version) values (:taskId, :taskListId, :targetTaskListId, :name, :state, "
+            + ":priority, :effort, :version)")
+    int insert(
+            @Param("taskId") Long taskId,
+            @Param("taskListId") Long taskListId,
+            @Param("targetTaskListId") Long targetTaskListId,
+            @Param("name") String name,
+            @Param("state") TaskState state,
+            @Param("priority") Priority priority,
+            @Param("effort") Effort effort,
+            @Param("version") Long version);
+
+    /**
+     * Drops the records of the given Tasks.
+     *
+     * @return number of records deleted
+     */
+    @Modifying
+    @Query("delete from TaskMove m where m.taskId in :taskIds")
+    int deleteByTaskIds(@Param("taskIds") List<Long> taskIds);
+}
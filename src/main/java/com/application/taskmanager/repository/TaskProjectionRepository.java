@@ -0,0 +1,60 @@
+package com.application.taskmanager.repository;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Repository fragment for read-only Task listings.
+ *
+ * Functional Responsibility:
+ * - Selects Task columns straight into {@link TaskResponse} through a constructor expression.
+ *
+ * Technical Notes:
+ * - No entities are hydrated, so nothing enters the persistence context
+ *   and no dirty-checking snapshots are kept.
+ * - The filter/sort listing reuses one JPQL template per query shape, so Hibernate
+ *   serves the translated SQL from its query plan cache instead of re-translating.
+ */
+public interface TaskProjectionRepository {
+
+    /**
+     * Finds Tasks matching the specification as response DTOs.
+     *
+     * @param spec optional filter, may be null
+     * @param sort ordering of the result
+     * @param limit maximum number of rows, or 0 for no limit
+     * @return matching Tasks in the requested order
+     */
+    List<TaskResponse> findAllProjected(Specification<Task> spec, Sort sort, int limit);
+
+    /**
+     * Ids of the Tasks matching the specification.
+     *
+     * @param spec filter, must not be null
+     * @return matching ids in id order
+     */
+    List<Long> findIds(Specification<Task> spec);
+
+    /**
+     * Finds Tasks matching the listing filters as response DTOs, through a cached
+     * JPQL template keyed by the shape of the query: whether a TaskList filter is
+     * present, the number of distinct priorities and efforts, and the sort orders.
+     *
+     * @param taskListId optional TaskList filter, may be null
+     * @param priorities priority filter, empty for none
+     * @param efforts effort filter, empty for none
+     * @param sort ordering of the result (properties must be Task attributes)
+     * @return matching Tasks in the requested order
+     */
+    List<TaskResponse> findAllFiltered(
+            Long taskListId,
+            List<Priority> priorities,
+            List<Effort> efforts,
+            Sort sort);
+}
@@ -1,8 +1,26 @@
 package com.application.taskmanager.repository;
 
+import com.application.taskmanager.dto.response.TaskResponse;
 import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.repository.projection.TaskChange;
+import com.application.taskmanager.repository.projection.TaskIndexEntry;
+import com.application.taskmanager.repository.projection.TaskListTaskCount;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for Task persistence operations.
@@ -10,6 +28,10 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
  * Functional Responsibility:
  * - Handles CRUD operations for Task entity.
  * - Supports dynamic filtering via JPA Specifications.
+ * - Supports constant-memory streaming reads via {@link TaskStreamRepository}.
+ * - Supports grouped counts via {@link TaskAggregateRepository}.
+ * - Supports entity-free read-only listings via {@link TaskProjectionRepository}.
+ * - Supports set-based updates via {@link TaskBulkUpdateRepository}.
  *
  * Technical Notes:
  * - JpaRepository provides standard CRUD.
@@ -18,6 +40,158 @@ import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
  */
 public interface TaskRepository
         extends JpaRepository<Task, Long>,
-        JpaSpecificationExecutor<Task> {
+        JpaSpecificationExecutor<Task>,
+        TaskStreamRepository,
+        TaskAggregateRepository,
+        TaskProjectionRepository,
+        TaskBulkUpdateRepository {
+
+    /**
+     * Counts Tasks per TaskList in a single grouped query.
+     *
+     * Functional Use Case:
+     * - Seeds the in-memory task quota counters at startup.
+     *
+     * @return one row per TaskList that holds at least one Task
+     */
+    @Query("select t.taskListId as taskListId, count(t) as taskCount "
+            + "from Task t group by t.taskListId")
+    List<TaskListTaskCount> countTasksByTaskList();
+
+    /**
+     * Finds one Task as a response DTO without loading the entity.
+     *
+     * @param id task id
+     * @return Optional TaskResponse
+     */
+    @Query("select new com.application.taskmanager.dto.response.TaskResponse("
+            + "t.id, t.taskListId, t.name, t.state, t.priority, t.effort, t.version) "
+            + "from Task t where t.id = :id")
+    Optional<TaskResponse> findProjectedById(@Param("id") Long id);
+
+    /**
+     * Sets the state of a Task if it still has the expected version, bumps the version
+     * and stamps the change sequence.
+     *
+     * @return number of rows updated (0 if the Task is gone or was modified meanwhile)
+     */
+    @Modifying
+    @Query("update Task t set t.state = :state, t.version = t.version + 1, "
+            + "t.changeSeq = :changeSeq "
+            + "where t.id = :id and t.version = :version")
+    int updateState(
+            @Param("id") Long id,
+            @Param("version") Long version,
+            @Param("state") TaskState state,
+            @Param("changeSeq") Long changeSeq);
+
+    /**
+     * Moves a Task to another TaskList if it still has the expected version, bumps the
+     * version and stamps the change sequence.
+     *
+     * @return number of rows updated (0 if the Task is gone or was modified meanwhile)
+     */
+    @Modifying
+    @Query("update Task t set t.taskListId = :targetTaskListId, t.version = t.version + 1, "
+            + "t.changeSeq = :changeSeq "
+            + "where t.id = :id and t.version = :version")
+    int updateTaskListId(
+            @Param("id") Long id,
+            @Param("version") Long version,
+            @Param("targetTaskListId") Long targetTaskListId,
+            @Param("changeSeq") Long changeSeq);
+
+    /**
+     * Deletes a Task without loading it first, if it still has the expected version.
+     *
+     * @return number of rows deleted (0 if the Task is gone or was modified meanwhile)
+     */
+    @Modifying
+    @Query("delete from Task t where t.id = :id and t.version = :version")
+    int deleteTaskById(@Param("id") Long id, @Param("version") Long version);
+
+    /**
+     * Inserts a Task with a given id and version.
+     *
+     * Functional Use Case:
+     * - Sharding: copies a Task onto the shard of the TaskList it moves to.
+     *
+     * @return number of rows inserted
+     */
+    @Modifying
+    @Query("insert into Task (id, taskListId, name, state, priority, effort, version, changeSeq) "
+            + "values (:id, :taskListId, :name, :state, :priority, :effort, :version, :changeSeq)")
+    int insertWithId(
+            @Param("id") Long id,
+            @Param("taskListId") Long taskListId,
+            @Param("name") String name,
+            @Param("state") TaskState state,
+            @Param("priority") Priority priority,
+            @Param("effort") Effort effort,
+            @Param("version") Long version,
+            @Param("changeSeq") Long changeSeq);
+
+    /**
+     * Deletes all Tasks of a TaskList in one statement.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("delete from Task t where t.taskListId = :taskListId")
+    int deleteByTaskListId(@Param("taskListId") Long taskListId);
+
+    /**
+     * Ids of the first Tasks of a TaskList, in id order.
+     *
+     * Functional Use Case:
+     * - Selects the next chunk of an asynchronous TaskList purge.
+     */
+    @Query("select t.id from Task t where t.taskListId = :taskListId order by t.id")
+    List<Long> findIdsByTaskListId(@Param("taskListId") Long taskListId, Limit limit);
+
+    /**
+     * Deletes the given Tasks of a TaskList in one statement.
+     *
+     * @return number of rows deleted
+     */
+    @Modifying
+    @Query("delete from Task t where t.taskListId = :taskListId and t.id in :ids")
+    int deleteByTaskListIdAndIds(
+            @Param("taskListId") Long taskListId,
+            @Param("ids") List<Long> ids);
+
+    /**
+     * Tasks of a TaskList after a (changeSeq, id) position and up to a ceiling,
+     * in sequence order.
+     *
+     * Functional Use Case:
+     * - Delta sync: Tasks created, updated or moved in since a client's watermark.
+     */
+    @Query("select new com.application.taskmanager.repository.projection.TaskChange("
+            + "t.id, t.taskListId, t.name, t.state, t.priority, t.effort, t.version, t.changeSeq) "
+            + "from Task t "
+            + "where t.taskListId = :taskListId "
+            + "and (t.changeSeq > :afterSeq or (t.changeSeq = :afterSeq and t.id > :afterId)) "
+            + "and t.changeSeq <= :ceiling "
+            + "order by t.changeSeq, t.id")
+    List<TaskChange> findChangesAfter(
+            @Param("taskListId") Long taskListId,
+            @Param("afterSeq") Long afterSeq,
+            @Param("afterId") Long afterId,
+            @Param("ceiling") Long ceiling,
+            Limit limit);
 
-}
\ No newline at end of file
+    /**
+     * Streams the filterable attributes of every Task.
+     *
+     * Functional Use Case:
+     * - Seeds the in-memory filter index at startup.
+     *
+     * Technical Notes:
+     * - Must be consumed inside a transaction and closed.
+     */
+    @Query("select new com.application.taskmanager.repository.projection.TaskIndexEntry("
+            + "t.id, t.priority, t.effort) from Task t")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    Stream<TaskIndexEntry> streamIndexEntries();
+}
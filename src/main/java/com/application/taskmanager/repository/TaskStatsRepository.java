@@ -0,0 +1,100 @@
+package com.application.taskmanager.repository;
+
+import com.application.taskmanager.entity.TaskStatsEntry;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.repository.projection.TaskGroupCount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository interface for the task statistics summary table.
+ *
+ * Functional Responsibility:
+ * - Reads pre-aggregated counts per TaskList.
+ * - Applies count deltas as Tasks are written.
+ *
+ * Technical Notes:
+ * - Every TaskList owns one row per (state, priority, effort) combination,
+ *   created up front, so maintenance is always a row-locked UPDATE.
+ * - The native statements enumerate the stored enum codes (see CodedEnum);
+ *   they must list every code of TaskState, Priority and Effort.
+ * - No business logic should be implemented here.
+ */
+public interface TaskStatsRepository extends JpaRepository<TaskStatsEntry, Long> {
+
+    /**
+     * Summary counts of one TaskList.
+     */
+    @Query("select new com.application.taskmanager.repository.projection.TaskGroupCount("
+            + "s.state, s.priority, s.effort, s.taskCount) "
+            + "from TaskStatsEntry s where s.taskListId = :taskListId")
+    List<TaskGroupCount> findByTaskList(@Param("taskListId") Long taskListId);
+
+    /**
+     * Summary counts across all TaskLists.
+     */
+    @Query("select new com.application.taskmanager.repository.projection.TaskGroupCount("
+            + "s.state, s.priority, s.effort, sum(s.taskCount)) "
+            + "from TaskStatsEntry s group by s.state, s.priority, s.effort")
+    List<TaskGroupCount> findTotals();
+
+    /**
+     * Adds {@code delta} to one summary row.
+     *
+     * @return number of rows updated (0 if the TaskList has no summary rows)
+     */
+    @Modifying
+    @Query("update TaskStatsEntry s set s.taskCount = s.taskCount + :delta "
+            + "where s.taskListId = :taskListId and s.state = :state "
+            + "and s.priority = :priority and s.effort = :effort")
+    int adjust(
+            @Param("taskListId") Long taskListId,
+            @Param("state") TaskState state,
+            @Param("priority") Priority priority,
+            @Param("effort") Effort effort,
+            @Param("delta") long delta);
+
+    /**
+     * Removes the summary rows of one TaskList.
+     */
+    @Modifying
+    @Query("delete from TaskStatsEntry s where s.taskListId = :taskListId")
+    int deleteByTaskList(@Param("taskListId") Long taskListId);
+
+    /**
+     * Recomputes the whole summary from the tasks table (lists being purged are skipped).
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_stats (task_list_id, state, priority, effort, task_count)
+            SELECT l.id, s.v, p.v, e.v,
+                   (SELECT COUNT(*) FROM tasks t
+                    WHERE t.task_list_id = l.id AND t.state = s.v
+                      AND t.priority = p.v AND t.effort = e.v)
+            FROM task_lists l
+            CROSS JOIN (VALUES (1), (2)) AS s(v)
+            CROSS JOIN (VALUES (1), (2), (3)) AS p(v)
+            CROSS JOIN (VALUES (1), (2), (3)) AS e(v)
+            WHERE l.purging = FALSE
+            """, nativeQuery = true)
+    int rebuildAll();
+
+    /**
+     * Creates the zero-count summary rows of a new TaskList.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO task_stats (task_list_id, state, priority, effort, task_count)
+            SELECT :taskListId, s.v, p.v, e.v, 0
+            FROM (VALUES (1), (2)) AS s(v)
+            CROSS JOIN (VALUES (1), (2), (3)) AS p(v)
+            CROSS JOIN (VALUES (1), (2), (3)) AS e(v)
+            """, nativeQuery = true)
+    int createEmpty(@Param("taskListId") Long taskListId);
+}
@@ -0,0 +1,30 @@
+package com.application.taskmanager.repository;
+
+import com.application.taskmanager.entity.Task;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.stream.Stream;
+
+/**
+ * Repository fragment for forward-only, constant-memory Task reads.
+ *
+ * Functional Responsibility:
+ * - Streams Tasks matching a Specification without materializing the full result list.
+ *
+ * Technical Notes:
+ * - Rows are fetched from the JDBC cursor in fixed-size chunks.
+ * - Returned entities are detached, so the persistence context does not grow with the result.
+ * - The stream must be consumed and closed inside a transaction.
+ */
+public interface TaskStreamRepository {
+
+    /**
+     * Streams Tasks matching the given specification in the given order.
+     *
+     * @param spec optional filter, may be null
+     * @param sort ordering of the stream
+     * @return forward-only stream of detached Tasks
+     */
+    Stream<Task> streamAll(Specification<Task> spec, Sort sort);
+}
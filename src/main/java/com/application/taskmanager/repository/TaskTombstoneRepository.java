@@ -0,0 +1,70 @@
+package com.application.taskmanager.repository;
+
+import com.application.taskmanager.entity.TaskTombstone;
+import com.application.taskmanager.repository.projection.TaskTombstoneEntry;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+/**
+ * Repository interface for Task tombstones (delta sync).
+ *
+ * Functional Responsibility:
+ * - Records Tasks leaving a TaskList (delete or move).
+ * - Reads the tombstones of a TaskList after a change sequence position.
+ *
+ * Technical Notes:
+ * - Inserts are single statements without loading anything.
+ * - No business logic should be implemented here.
+ */
+public interface TaskTombstoneRepository extends JpaRepository<TaskTombstone, Long> {
+
+    /**
+     * Records one Task leaving a TaskList.
+     */
+    @Modifying
+    @Query("insert into TaskTombstone (taskId, taskListId, changeSeq) "
+            + "values (:taskId, :taskListId, :changeSeq)")
+    int insert(
+            @Param("taskId") Long taskId,
+            @Param("taskListId") Long taskListId,
+            @Param("changeSeq") Long changeSeq);
+
+    /**
+     * Records the given Tasks leaving their current TaskList; must run before
+     * they are moved.
+     *
+     * @return number of tombstones written
+     */
+    @Modifying
+    @Query("insert into TaskTombstone (taskId, taskListId, changeSeq) "
+            + "select t.id, t.taskListId, :changeSeq from Task t where t.id in :taskIds")
+    int insertForTasks(
+            @Param("taskIds") List<Long> taskIds,
+            @Param("changeSeq") Long changeSeq);
+
+    /**
+     * Tombstones of a TaskList after a (changeSeq, id) position and up to a ceiling,
+     * in sequence order. Tombstones of Tasks that have since come back to the list
+     * are skipped: the Task itself is reported as changed instead.
+     */
+    @Query("select new com.application.taskmanager.repository.projection.TaskTombstoneEntry("
+            + "b.id, b.taskId, b.changeSeq) "
+            + "from TaskTombstone b "
+            + "where b.taskListId = :taskListId "
+            + "and (b.changeSeq > :afterSeq or (b.changeSeq = :afterSeq and b.id > :afterId)) "
+            + "and b.changeSeq <= :ceiling "
+            + "and not exists (select 1 from Task t where t.id = b.taskId "
+            + "and t.taskListId = b.taskListId and t.changeSeq > b.changeSeq) "
+            + "order by b.changeSeq, b.id")
+    List<TaskTombstoneEntry> findAfter(
+            @Param("taskListId") Long taskListId,
+            @Param("afterSeq") Long afterSeq,
+            @Param("afterId") Long afterId,
+            @Param("ceiling") Long ceiling,
+            Limit limit);
+}
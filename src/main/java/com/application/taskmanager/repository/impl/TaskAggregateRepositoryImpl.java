@@ -0,0 +1,79 @@
+package com.application.taskmanager.repository.impl;
+
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.repository.TaskAggregateRepository;
+import com.application.taskmanager.repository.projection.TaskGroupCount;
+import com.application.taskmanager.repository.projection.TaskListGroupCount;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Criteria-based implementation of {@link TaskAggregateRepository}.
+ */
+public class TaskAggregateRepositoryImpl implements TaskAggregateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<TaskGroupCount> countGrouped(Specification<Task> spec) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskGroupCount> query = cb.createQuery(TaskGroupCount.class);
+        Root<Task> root = query.from(Task.class);
+
+        Path<Object> state = root.get(Task.Fields.STATE);
+        Path<Object> priority = root.get(Task.Fields.PRIORITY);
+        Path<Object> effort = root.get(Task.Fields.EFFORT);
+
+        query.select(cb.construct(TaskGroupCount.class, state, priority, effort, cb.count(root)));
+
+        Predicate predicate = (spec == null)
+                ? null
+                : spec.toPredicate(root, query, cb);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.groupBy(state, priority, effort);
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<TaskListGroupCount> countGroupedByTaskList(Specification<Task> spec) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskListGroupCount> query = cb.createQuery(TaskListGroupCount.class);
+        Root<Task> root = query.from(Task.class);
+
+        Path<Object> taskListId = root.get(Task.Fields.TASK_LIST_ID);
+        Path<Object> state = root.get(Task.Fields.STATE);
+        Path<Object> priority = root.get(Task.Fields.PRIORITY);
+        Path<Object> effort = root.get(Task.Fields.EFFORT);
+
+        query.select(cb.construct(
+                TaskListGroupCount.class, taskListId, state, priority, effort, cb.count(root)));
+
+        Predicate predicate = (spec == null)
+                ? null
+                : spec.toPredicate(root, query, cb);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.groupBy(taskListId, state, priority, effort);
+
+        return entityManager.createQuery(query).getResultList();
+    }
+}
@@ -0,0 +1,57 @@
+package com.application.taskmanager.repository.impl;
+
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.repository.TaskBulkUpdateRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Criteria-based implementation of {@link TaskBulkUpdateRepository}.
+ */
+public class TaskBulkUpdateRepositoryImpl implements TaskBulkUpdateRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int bulkUpdateState(Specification<Task> spec, TaskState state, Long changeSeq) {
+
+        return update(spec, Task.Fields.STATE, state, changeSeq);
+    }
+
+    @Override
+    public int bulkUpdateTaskListId(Specification<Task> spec, Long targetTaskListId, Long changeSeq) {
+
+        return update(spec, Task.Fields.TASK_LIST_ID, targetTaskListId, changeSeq);
+    }
+
+    private int update(Specification<Task> spec, String attribute, Object value, Long changeSeq) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+        Root<Task> root = update.from(Task.class);
+
+        Path<Long> version = root.get(Task.Fields.VERSION);
+
+        update.set(root.get(attribute), value);
+        update.set(version, cb.sum(version, 1L));
+        update.set(root.<Long>get(Task.Fields.CHANGE_SEQ), changeSeq);
+
+        Predicate predicate = (spec == null)
+                ? null
+                : spec.toPredicate(root, null, cb);
+
+        if (predicate != null) {
+            update.where(predicate);
+        }
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
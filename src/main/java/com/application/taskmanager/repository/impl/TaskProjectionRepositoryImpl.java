@@ -0,0 +1,215 @@
+package com.application.taskmanager.repository.impl;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.repository.TaskProjectionRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Criteria-based implementation of {@link TaskProjectionRepository}, plus the
+ * JPQL template cache behind {@link #findAllFiltered}.
+ *
+ * <p>
+ * Filter values are bound as one named parameter per set element
+ * ({@code :priority0, :priority1}), so every shape has exactly one JPQL string and
+ * one SQL string. Hibernate keys its query plan cache on that string; a Criteria
+ * query, by contrast, is re-translated on every execution.
+ */
+public class TaskProjectionRepositoryImpl implements TaskProjectionRepository {
+
+    // TaskSortRegistry allows 3,262 sorts (orderings of its six fields, two directions),
+    // so with the filters there are about 100,000 shapes. Only a few are used in
+    // practice; the cap keeps rare ones from filling memory
+    private static final int MAX_TEMPLATES = 1024;
+
+    private static final String SELECT = "select new " + TaskResponse.class.getName()
+            + "(t.id, t.taskListId, t.name, t.state, t.priority, t.effort, t.version) from Task t";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Map<QueryShape, String> templates = new ConcurrentHashMap<>();
+
+    @Override
+    public List<TaskResponse> findAllProjected(Specification<Task> spec, Sort sort, int limit) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TaskResponse> query = cb.createQuery(TaskResponse.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(cb.construct(
+                TaskResponse.class,
+                root.get(Task.Fields.ID),
+                root.get(Task.Fields.TASK_LIST_ID),
+                root.get(Task.Fields.NAME),
+                root.get(Task.Fields.STATE),
+                root.get(Task.Fields.PRIORITY),
+                root.get(Task.Fields.EFFORT),
+                root.get(Task.Fields.VERSION)
+        ));
+
+        Predicate predicate = (spec == null)
+                ? null
+                : spec.toPredicate(root, query, cb);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        TypedQuery<TaskResponse> typedQuery = entityManager.createQuery(query);
+
+        if (limit > 0) {
+            typedQuery.setMaxResults(limit);
+        }
+
+        return typedQuery.getResultList();
+    }
+
+    @Override
+    public List<Long> findIds(Specification<Task> spec) {
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Task> root = query.from(Task.class);
+
+        query.select(root.get(Task.Fields.ID))
+                .orderBy(cb.asc(root.get(Task.Fields.ID)));
+
+        Predicate predicate = spec.toPredicate(root, query, cb);
+
+        if (predicate != null) {
+            query.where(predicate);
+        }
+
+        return entityManager.createQuery(query).getResultList();
+    }
+
+    @Override
+    public List<TaskResponse> findAllFiltered(
+            Long taskListId,
+            List<Priority> priorities,
+            List<Effort> efforts,
+            Sort sort
+    ) {
+
+        List<Priority> distinctPriorities = distinct(priorities);
+        List<Effort> distinctEfforts = distinct(efforts);
+
+        QueryShape shape = new QueryShape(
+                taskListId != null, distinctPriorities.size(), distinctEfforts.size(), sort);
+
+        String jpql = templates.get(shape);
+
+        if (jpql == null) {
+            jpql = shape.toJpql(entityManager);
+            if (templates.size() < MAX_TEMPLATES) {
+                templates.putIfAbsent(shape, jpql);
+            }
+        }
+
+        TypedQuery<TaskResponse> query = entityManager.createQuery(jpql, TaskResponse.class);
+
+        if (taskListId != null) {
+            query.setParameter("taskListId", taskListId);
+        }
+
+        for (int i = 0; i < distinctPriorities.size(); i++) {
+            query.setParameter("priority" + i, distinctPriorities.get(i));
+        }
+
+        for (int i = 0; i < distinctEfforts.size(); i++) {
+            query.setParameter("effort" + i, distinctEfforts.get(i));
+        }
+
+        return query.getResultList();
+    }
+
+    private static <E extends Enum<E>> List<E> distinct(List<E> values) {
+
+        return (values == null || values.isEmpty())
+                ? List.of()
+                : new ArrayList<>(EnumSet.copyOf(values));
+    }
+
+    /**
+     * Everything that changes the JPQL text; parameter values do not.
+     */
+    private record QueryShape(
+            boolean hasTaskList,
+            int priorityCount,
+            int effortCount,
+            Sort sort
+    ) {
+
+        String toJpql(EntityManager entityManager) {
+
+            StringBuilder jpql = new StringBuilder(SELECT);
+            List<String> conditions = new ArrayList<>();
+
+            if (hasTaskList) {
+                conditions.add("t.taskListId = :taskListId");
+            }
+
+            if (priorityCount > 0) {
+                conditions.add("t.priority in (" + parameters("priority", priorityCount) + ")");
+            }
+
+            if (effortCount > 0) {
+                conditions.add("t.effort in (" + parameters("effort", effortCount) + ")");
+            }
+
+            if (!conditions.isEmpty()) {
+                jpql.append(" where ").append(String.join(" and ", conditions));
+            }
+
+            if (sort.isSorted()) {
+
+                StringJoiner orders = new StringJoiner(", ", " order by ", "");
+
+                for (Sort.Order order : sort) {
+                    // Only mapped attributes may reach the JPQL text (throws IllegalArgumentException otherwise)
+                    String property = entityManager.getMetamodel()
+                            .entity(Task.class)
+                            .getAttribute(order.getProperty())
+                            .getName();
+                    orders.add("t." + property + (order.isAscending() ? " asc" : " desc"));
+                }
+
+                jpql.append(orders);
+            }
+
+            return jpql.toString();
+        }
+
+        private static String parameters(String prefix, int count) {
+
+            StringJoiner names = new StringJoiner(", ");
+
+            for (int i = 0; i < count; i++) {
+                names.add(":" + prefix + i);
+            }
+
+            return names.toString();
+        }
+    }
+}
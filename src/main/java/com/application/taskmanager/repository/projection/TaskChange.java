@@ -0,0 +1,26 @@
+package com.application.taskmanager.repository.projection;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+
+/**
+ * A Task together with its position in the change sequence, read by delta sync.
+ */
+public record TaskChange(
+        Long id,
+        Long taskListId,
+        String name,
+        TaskState state,
+        Priority priority,
+        Effort effort,
+        Long version,
+        Long changeSeq
+) {
+
+    public TaskResponse toResponse() {
+
+        return new TaskResponse(id, taskListId, name, state, priority, effort, version);
+    }
+}
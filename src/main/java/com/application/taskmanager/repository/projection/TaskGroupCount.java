@@ -0,0 +1,20 @@
+package com.application.taskmanager.repository.projection;
+
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+
+/**
+ * Number of Tasks sharing one (state, priority, effort) combination.
+ *
+ * <p>
+ * Used as a JPQL/Criteria constructor expression, so at most
+ * 2 × 3 × 3 rows are transferred for any statistics query.
+ */
+public record TaskGroupCount(
+        TaskState state,
+        Priority priority,
+        Effort effort,
+        Long count
+) {
+}
@@ -0,0 +1,14 @@
+package com.application.taskmanager.repository.projection;
+
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+
+/**
+ * The filterable attributes of one Task, used to seed the in-memory filter index.
+ */
+public record TaskIndexEntry(
+        Long id,
+        Priority priority,
+        Effort effort
+) {
+}
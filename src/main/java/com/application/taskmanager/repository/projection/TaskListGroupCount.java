@@ -0,0 +1,21 @@
+package com.application.taskmanager.repository.projection;
+
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+
+/**
+ * Number of Tasks sharing one (TaskList, state, priority, effort) combination.
+ *
+ * <p>
+ * Captured before a bulk UPDATE so quota counters and the statistics summary
+ * can be adjusted by exact deltas without loading the affected Tasks.
+ */
+public record TaskListGroupCount(
+        Long taskListId,
+        TaskState state,
+        Priority priority,
+        Effort effort,
+        Long count
+) {
+}
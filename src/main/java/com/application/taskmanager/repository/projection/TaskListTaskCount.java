@@ -0,0 +1,11 @@
+package com.application.taskmanager.repository.projection;
+
+/**
+ * Projection of the number of Tasks held by one TaskList.
+ */
+public interface TaskListTaskCount {
+
+    Long getTaskListId();
+
+    long getTaskCount();
+}
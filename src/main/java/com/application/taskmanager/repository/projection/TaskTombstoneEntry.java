@@ -0,0 +1,11 @@
+package com.application.taskmanager.repository.projection;
+
+/**
+ * A Task that left a TaskList, with its position in the change sequence.
+ */
+public record TaskTombstoneEntry(
+        Long id,
+        Long taskId,
+        Long changeSeq
+) {
+}
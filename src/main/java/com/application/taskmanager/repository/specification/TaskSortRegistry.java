@@ -0,0 +1,165 @@
+package com.application.taskmanager.repository.specification;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.exception.BadRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * TaskSortRegistry
+ *
+ * <p><b>Functional Purpose:</b>
+ * Whitelists the {@link Task} fields clients may sort by and translates the
+ * API-level {@code sortBy}/{@code sortDirection} pair into the {@link Sort}
+ * handed to the repositories. Unknown or repeated fields are rejected with a
+ * 400 before any query is built.
+ *
+ * <p>
+ * Priority and effort sort by their meaning ({@code LOW < MEDIUM < HIGH}),
+ * so {@code sortDirection=desc} lists HIGH first.
+ *
+ * <p><b>Technical Design Notes:</b>
+ * <ul>
+ *     <li>Every sortable field leads an index ending in {@code id} (noted per
+ *         entry below), so the database can walk the index instead of sorting
+ *         the table.</li>
+ *     <li>Enum columns hold codes ordered by meaning (see
+ *         {@link com.application.taskmanager.enums.CodedEnum}), so the
+ *         requested direction applies to the column as-is.</li>
+ *     <li>Keyset cursors are signed with the resolved orders, so they stay
+ *         consistent with the ORDER BY actually executed.</li>
+ * </ul>
+ *
+ * <p>
+ * This class is a utility holder and is not meant to be instantiated.
+ */
+public final class TaskSortRegistry {
+
+    /**
+     * A sortable field and its value as the database orders it (enum columns by code).
+     */
+    private record SortableField(
+            String property,
+            Function<TaskResponse, Comparable<?>> key
+    ) {
+    }
+
+    private static final Map<String, SortableField> FIELDS = register(
+            // primary key
+            new SortableField(Task.Fields.ID, TaskResponse::getId),
+            // idx_tasks_list_id
+            new SortableField(Task.Fields.TASK_LIST_ID, TaskResponse::getTaskListId),
+            // idx_tasks_name
+            new SortableField(Task.Fields.NAME, TaskResponse::getName),
+            // idx_tasks_state
+            new SortableField(Task.Fields.STATE, task -> task.getState().getCode()),
+            // idx_tasks_priority
+            new SortableField(Task.Fields.PRIORITY, task -> task.getPriority().getCode()),
+            // idx_tasks_effort
+            new SortableField(Task.Fields.EFFORT, task -> task.getEffort().getCode())
+    );
+
+    private TaskSortRegistry() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Names accepted in {@code sortBy}, in registration order.
+     */
+    public static List<String> supportedFields() {
+
+        return FIELDS.values().stream()
+                .map(SortableField::property)
+                .toList();
+    }
+
+    /**
+     * Resolves a comma-separated {@code sortBy} into column-level orders,
+     * always including {@code id} for a deterministic order.
+     *
+     * @throws BadRequestException for unknown or repeated fields
+     */
+    public static Sort resolve(String sortBy, String sortDirection) {
+
+        Sort.Direction direction =
+                "desc".equalsIgnoreCase(sortDirection)
+                        ? Sort.Direction.DESC
+                        : Sort.Direction.ASC;
+
+        if (sortBy == null || sortBy.isBlank()) {
+            return Sort.by(direction, Task.Fields.ID); // default sort
+        }
+
+        List<Sort.Order> orders = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+
+        for (String name : sortBy.split(",")) {
+
+            SortableField field = FIELDS.get(name.trim().toLowerCase(Locale.ROOT));
+
+            if (field == null) {
+                throw new BadRequestException(
+                        "Unsupported sort field: '" + name.trim() + "'. Supported fields: "
+                                + String.join(", ", supportedFields()));
+            }
+
+            if (!seen.add(field.property())) {
+                throw new BadRequestException(
+                        "Duplicate sort field: '" + field.property() + "'");
+            }
+
+            orders.add(new Sort.Order(direction, field.property()));
+        }
+
+        // Deterministic ordering
+        if (!seen.contains(Task.Fields.ID)) {
+            orders.add(new Sort.Order(direction, Task.Fields.ID));
+        }
+
+        return Sort.by(orders);
+    }
+
+    /**
+     * In-memory equivalent of a resolved {@link Sort}, for merging rows that were
+     * sorted by the database in separate queries (e.g. one per shard).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static Comparator<TaskResponse> comparator(Sort sort) {
+
+        Comparator<TaskResponse> comparator = (a, b) -> 0;
+
+        for (Sort.Order order : sort) {
+
+            Function<TaskResponse, Comparable> key = (Function) FIELDS
+                    .get(order.getProperty().toLowerCase(Locale.ROOT))
+                    .key();
+            Comparator<TaskResponse> field = Comparator.comparing(key);
+
+            comparator = comparator.thenComparing(order.isAscending() ? field : field.reversed());
+        }
+
+        return comparator;
+    }
+
+    private static Map<String, SortableField> register(SortableField... fields) {
+
+        Map<String, SortableField> registry = new LinkedHashMap<>();
+
+        for (SortableField field : fields) {
+            registry.put(field.property().toLowerCase(Locale.ROOT), field);
+        }
+
+        return Collections.unmodifiableMap(registry);
+    }
+}
@@ -3,8 +3,14 @@ package com.application.taskmanager.repository.specification;
 import com.application.taskmanager.entity.Task;
 import com.application.taskmanager.enums.Effort;
 import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.exception.BadRequestException;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -20,6 +26,8 @@ import java.util.List;
  *     <li>TaskList identifier</li>
  *     <li>Multiple priorities (CSV supported)</li>
  *     <li>Multiple efforts (CSV supported)</li>
+ *     <li>Explicit Task identifiers (bulk operations)</li>
+ *     <li>Keyset (seek) continuation after a cursor position</li>
  * </ul>
  *
  * <p>
@@ -79,7 +87,7 @@ public final class TaskSpecification {
 
         return (root, query, cb) ->
                 cb.equal(
-                        root.get(Task.Fields.ID),
+                        root.get(Task.Fields.TASK_LIST_ID),
                         taskListId
                 );
     }
@@ -103,4 +111,103 @@ public final class TaskSpecification {
         return (root, query, cb) ->
                 root.get(Task.Fields.EFFORT).in(efforts);
     }
-}
\ No newline at end of file
+
+    /**
+     * Filters by explicit Task IDs.
+     * Translates to SQL IN clause.
+     */
+    public static Specification<Task> hasIds(List<Long> ids) {
+
+        return (root, query, cb) ->
+                root.get(Task.Fields.ID).in(ids);
+    }
+
+    /**
+     * Excludes Tasks already in the given state, so bulk updates only touch rows they change.
+     */
+    public static Specification<Task> notInState(TaskState state) {
+
+        return (root, query, cb) ->
+                cb.notEqual(root.get(Task.Fields.STATE), state);
+    }
+
+    /**
+     * Excludes Tasks already in the given TaskList, so bulk moves only touch rows they change.
+     */
+    public static Specification<Task> notInTaskList(Long taskListId) {
+
+        return (root, query, cb) ->
+                cb.notEqual(root.get(Task.Fields.TASK_LIST_ID), taskListId);
+    }
+
+    /**
+     * Keyset (seek) predicate selecting rows strictly after the given sort key values.
+     *
+     * <p>
+     * For orders {@code (f1, f2, ..., id)} and cursor values {@code (v1, v2, ..., vId)}
+     * this expands to:
+     * <pre>
+     *     f1 > v1
+     *     OR (f1 = v1 AND f2 > v2)
+     *     OR ...
+     *     OR (f1 = v1 AND f2 = v2 AND ... AND id > vId)
+     * </pre>
+     * with {@code <} instead of {@code >} for descending orders. Because the last
+     * order is always the unique {@code id}, the position is unambiguous and the
+     * database can seek directly to it instead of skipping an offset.
+     */
+    public static Specification<Task> seekAfter(List<Sort.Order> orders, List<String> values) {
+
+        if (orders.size() != values.size()) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+
+        return (root, query, cb) -> {
+
+            List<Predicate> alternatives = new ArrayList<>();
+            List<Predicate> equalPrefix = new ArrayList<>();
+
+            for (int i = 0; i < orders.size(); i++) {
+
+                Sort.Order order = orders.get(i);
+                Path<Comparable<Object>> path = root.get(order.getProperty());
+                Comparable<Object> value = toComparable(path.getJavaType(), values.get(i));
+
+                Predicate beyond = order.isAscending()
+                        ? cb.greaterThan(path, value)
+                        : cb.lessThan(path, value);
+
+                List<Predicate> alternative = new ArrayList<>(equalPrefix);
+                alternative.add(beyond);
+                alternatives.add(cb.and(alternative.toArray(Predicate[]::new)));
+
+                equalPrefix.add(cb.equal(path, value));
+            }
+
+            return cb.or(alternatives.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Converts a cursor value back to the Java type of the sorted attribute.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Comparable<Object> toComparable(Class<?> type, String value) {
+
+        try {
+            if (type.isEnum()) {
+                return (Comparable<Object>) (Comparable) Enum.valueOf((Class<Enum>) type, value);
+            }
+            if (Long.class.equals(type)) {
+                return (Comparable<Object>) (Comparable) Long.valueOf(value);
+            }
+            if (String.class.equals(type)) {
+                return (Comparable<Object>) (Comparable) value;
+            }
+        } catch (IllegalArgumentException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        throw new BadRequestException("Invalid cursor");
+    }
+}
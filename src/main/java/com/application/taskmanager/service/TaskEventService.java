@@ -0,0 +1,42 @@
+package com.application.taskmanager.service;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Change feed of Task mutations, pushed to TaskList subscribers as Server-Sent Events.
+ *
+ * <p>
+ * Events are published once the surrounding transaction commits and kept in a
+ * bounded history, so a reconnecting client resumes after its last seen event.
+ * Like the quota counters, the feed is local to this instance.
+ */
+public interface TaskEventService {
+
+    void onTaskCreated(TaskResponse task);
+
+    void onTasksCreated(List<TaskResponse> tasks);
+
+    void onTaskStateChanged(TaskResponse task);
+
+    void onTaskMoved(TaskResponse task, Long previousTaskListId);
+
+    void onTaskDeleted(TaskResponse task);
+
+    /**
+     * Bulk change of an unknown set of Tasks in the given lists.
+     */
+    void onTasksChanged(Collection<Long> taskListIds);
+
+    /**
+     * Opens a feed for one TaskList.
+     *
+     * @param taskListId list to follow
+     * @param lastEventId last event the client has seen ({@code Last-Event-ID}),
+     *                    or null to receive new events only
+     */
+    SseEmitter subscribe(Long taskListId, Long lastEventId);
+}
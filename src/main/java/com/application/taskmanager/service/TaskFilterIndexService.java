@@ -0,0 +1,58 @@
+package com.application.taskmanager.service;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Optional in-memory bitmap index over the priority and effort filters.
+ *
+ * <p>
+ * Resolves a filter such as {@code priorities=HIGH,MEDIUM&efforts=LOW} to Task ids
+ * with bitwise OR/AND, so only the rows of the requested page are read from the
+ * database. Priority and effort never change after creation, so only creates and
+ * deletes have to be applied; both are applied once the surrounding transaction commits.
+ *
+ * <p>
+ * The index may contain ids of Tasks that no longer exist (e.g. after a TaskList
+ * delete); callers fetch rows by id and {@link #evict} whatever is missing.
+ */
+public interface TaskFilterIndexService {
+
+    /**
+     * @return true when the index is enabled and fully seeded
+     */
+    boolean isAvailable();
+
+    void onTaskCreated(TaskResponse task);
+
+    void onTasksCreated(List<TaskResponse> tasks);
+
+    void onTaskDeleted(Long taskId);
+
+    void onTasksDeleted(Collection<Long> taskIds);
+
+    /**
+     * Finds up to {@code max} ids matching the filters, in id order, strictly after {@code afterId}.
+     *
+     * @param priorities priority filter, empty for none
+     * @param efforts effort filter, empty for none
+     * @param afterId exclusive start position, or null to start at the first/last id
+     * @param ascending iteration direction
+     * @param max maximum number of ids
+     */
+    List<Long> findIds(
+            List<Priority> priorities,
+            List<Effort> efforts,
+            Long afterId,
+            boolean ascending,
+            int max);
+
+    /**
+     * Drops ids found to be stale.
+     */
+    void evict(Collection<Long> taskIds);
+}
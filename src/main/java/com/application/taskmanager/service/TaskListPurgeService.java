@@ -0,0 +1,18 @@
+package com.application.taskmanager.service;
+
+/**
+ * Deletes the Tasks of a large TaskList in the background, in small transactions.
+ *
+ * <p>
+ * The TaskList must already be flagged as purging (hidden from lookups). Each chunk
+ * of Tasks is deleted in its own transaction, so no single transaction or lock spans
+ * the whole list; the TaskList row itself is removed together with the last chunk.
+ */
+public interface TaskListPurgeService {
+
+    /**
+     * Starts purging the given TaskList once the current transaction commits
+     * (immediately when there is none).
+     */
+    void schedule(Long taskListId);
+}
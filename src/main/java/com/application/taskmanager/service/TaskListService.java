@@ -13,5 +13,14 @@ public interface TaskListService {
 
     TaskListResponse getTaskListById(Long id);
 
+    /**
+     * Deletes a TaskList and all of its Tasks in one transaction.
+     */
     void deleteTaskList(Long id);
+
+    /**
+     * Hides a TaskList immediately and deletes it with its Tasks in the background,
+     * in chunks, without a long-running transaction.
+     */
+    void purgeTaskList(Long id);
 }
\ No newline at end of file
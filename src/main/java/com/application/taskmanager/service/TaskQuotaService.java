@@ -0,0 +1,39 @@
+package com.application.taskmanager.service;
+
+/**
+ * Enforces the global and per-TaskList task limits without counting rows on every write.
+ *
+ * <p>
+ * Reservations are applied immediately so concurrent writers cannot overshoot a limit,
+ * and are rolled back automatically if the surrounding transaction does not commit.
+ * Releases are applied only once the surrounding transaction commits.
+ */
+public interface TaskQuotaService {
+
+    /**
+     * Reserves room for one new Task in the given TaskList.
+     *
+     * @throws com.application.taskmanager.exception.BadRequestException if a limit is reached
+     */
+    void reserve(Long taskListId);
+
+    /**
+     * Returns room for removed Tasks of the given TaskList.
+     */
+    void release(Long taskListId, int count);
+
+    /**
+     * Moves one Task's reservation from one TaskList to another.
+     *
+     * @throws com.application.taskmanager.exception.BadRequestException if the target list is full
+     */
+    void transfer(Long sourceTaskListId, Long targetTaskListId);
+
+    /**
+     * Moves the reservations of {@code count} Tasks from one TaskList to another.
+     *
+     * @throws com.application.taskmanager.exception.BadRequestException if the target list
+     *         cannot take all of them
+     */
+    void transfer(Long sourceTaskListId, Long targetTaskListId, long count);
+}
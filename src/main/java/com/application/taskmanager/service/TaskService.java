@@ -1,25 +1,40 @@
 package com.application.taskmanager.service;
 
+import com.application.taskmanager.dto.request.BulkMoveTaskRequest;
+import com.application.taskmanager.dto.request.BulkUpdateTaskStatusRequest;
 import com.application.taskmanager.dto.request.CreateTaskRequest;
 import com.application.taskmanager.dto.request.MoveTaskRequest;
 import com.application.taskmanager.dto.request.UpdateTaskStatusRequest;
+import com.application.taskmanager.dto.response.TaskBatchResponse;
+import com.application.taskmanager.dto.response.TaskBulkResponse;
+import com.application.taskmanager.dto.response.TaskPageResponse;
 import com.application.taskmanager.dto.response.TaskResponse;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface TaskService {
 
     TaskResponse createTask(Long taskListId, CreateTaskRequest request);
 
+    TaskBatchResponse createTasks(Long taskListId, List<CreateTaskRequest> requests);
+
     TaskResponse getTaskById(Long taskId);
 
     List<TaskResponse> getAllTasks();
 
-    TaskResponse updateTaskStatus(Long taskId, UpdateTaskStatusRequest request);
+    /**
+     * @param expectedVersion version from If-Match, or null for an unconditional write
+     */
+    TaskResponse updateTaskStatus(Long taskId, UpdateTaskStatusRequest request, Long expectedVersion);
+
+    TaskResponse moveTask(Long taskId, MoveTaskRequest request, Long expectedVersion);
+
+    void deleteTask(Long taskId, Long expectedVersion);
 
-    TaskResponse moveTask(Long taskId, MoveTaskRequest request);
+    TaskBulkResponse updateTasksStatus(BulkUpdateTaskStatusRequest request);
 
-    void deleteTask(Long taskId);
+    TaskBulkResponse moveTasks(BulkMoveTaskRequest request);
 
     List<TaskResponse> getAllTasks(
             String priorities,
@@ -35,4 +50,29 @@ public interface TaskService {
             String sortBy,
             String sortDirection
     );
+
+    TaskPageResponse getAllTasksPage(
+            String priorities,
+            String efforts,
+            String sortBy,
+            String sortDirection,
+            String cursor,
+            int limit
+    );
+
+    TaskPageResponse getTasksPageByTaskListId(
+            Long taskListId,
+            String priorities,
+            String efforts,
+            String sortBy,
+            String sortDirection,
+            String cursor,
+            int limit
+    );
+
+    void exportTasks(
+            String priorities,
+            String efforts,
+            Consumer<TaskResponse> sink
+    );
 }
\ No newline at end of file
@@ -0,0 +1,41 @@
+package com.application.taskmanager.service;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.dto.response.TaskStatsResponse;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.repository.projection.TaskListGroupCount;
+
+import java.util.List;
+
+public interface TaskStatsService {
+
+    TaskStatsResponse getStats(String priorities, String efforts);
+
+    TaskStatsResponse getStatsByTaskListId(Long taskListId, String priorities, String efforts);
+
+    // ---- Summary maintenance (no-ops unless the summary table is enabled) ----
+
+    void onTaskListCreated(Long taskListId);
+
+    void onTaskListDeleted(Long taskListId);
+
+    void onTaskCreated(TaskResponse task);
+
+    void onTasksCreated(List<TaskResponse> tasks);
+
+    void onTaskDeleted(TaskResponse task);
+
+    void onTaskStateChanged(TaskResponse task, TaskState previousState);
+
+    void onTaskMoved(TaskResponse task, Long previousTaskListId);
+
+    /**
+     * Bulk state change; {@code groups} describes the affected Tasks before the update.
+     */
+    void onTasksStateChanged(List<TaskListGroupCount> groups, TaskState state);
+
+    /**
+     * Bulk move; {@code groups} describes the affected Tasks before the update.
+     */
+    void onTasksMoved(List<TaskListGroupCount> groups, Long targetTaskListId);
+}
@@ -0,0 +1,57 @@
+package com.application.taskmanager.service;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.TaskState;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Optional write-behind buffer for Task state changes.
+ *
+ * <p>
+ * Status updates are acknowledged from an in-memory, last-write-wins entry per Task
+ * and written to the database in periodic set-based UPDATEs, so a Task toggled many
+ * times between two flushes costs at most one UPDATE. Reads of a buffered Task by id
+ * are served from its entry; listings, statistics and sync catch up at the next flush.
+ *
+ * <p>
+ * Other writes to buffered Tasks (move, delete, bulk operations) first write the
+ * pending states in their own transaction, so they never overtake an acknowledged
+ * status update.
+ */
+public interface TaskStatusBufferService {
+
+    /**
+     * @return true when status updates are buffered
+     */
+    boolean isEnabled();
+
+    /**
+     * Acknowledges a state change from the buffer. The returned Task carries the
+     * version it will have once flushed.
+     *
+     * @param expectedVersion If-Match version, or null
+     */
+    TaskResponse updateState(Long taskId, TaskState state, Long expectedVersion);
+
+    /**
+     * @return the buffered view of the Task, or empty when it has no pending state
+     */
+    Optional<TaskResponse> find(Long taskId);
+
+    /**
+     * Writes the pending states of the given Tasks in the current transaction.
+     */
+    void writePending(Collection<Long> taskIds);
+
+    /**
+     * Writes every pending state in the current transaction.
+     */
+    void writeAllPending();
+
+    /**
+     * Writes every pending state in a transaction of its own.
+     */
+    void flush();
+}
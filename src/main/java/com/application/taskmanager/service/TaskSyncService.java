@@ -0,0 +1,30 @@
+package com.application.taskmanager.service;
+
+import com.application.taskmanager.dto.response.TaskSyncResponse;
+
+/**
+ * Change tracking behind the TaskList delta sync endpoint.
+ *
+ * <p>
+ * Every Task write is stamped with a value of a monotonic change sequence, and
+ * Tasks leaving a list leave a tombstone carrying one. A sync returns the rows of
+ * a list stamped after the client's watermark, so its cost follows the number of
+ * changes rather than the size of the list.
+ */
+public interface TaskSyncService {
+
+    /**
+     * Allocates the change sequence value for the current transaction's writes.
+     * Sync responses do not move past it until the transaction has completed.
+     */
+    long nextChangeSeq();
+
+    /**
+     * Changes of a TaskList after a watermark.
+     *
+     * @param taskListId list to sync
+     * @param since watermark from the previous sync, or null for a full sync
+     * @param limit maximum number of tasks and of deleted ids in the response
+     */
+    TaskSyncResponse getChanges(Long taskListId, String since, int limit);
+}
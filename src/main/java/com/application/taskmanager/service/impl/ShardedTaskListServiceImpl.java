@@ -0,0 +1,134 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.config.CacheConfig;
+import com.application.taskmanager.config.ShardRouter;
+import com.application.taskmanager.dto.request.CreateTaskListRequest;
+import com.application.taskmanager.dto.response.TaskListResponse;
+import com.application.taskmanager.exception.ResourceNotFoundException;
+import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.service.TaskListService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * Sharded {@link TaskListService}.
+ *
+ * <p>
+ * The catalog of TaskLists lives on shard 0, which hands out their ids; lookups and
+ * listings read it there. A TaskList homed on another shard also gets a row with the
+ * same id on that shard, which its Tasks reference. Creating, deleting and purging
+ * touch both rows, home shard first, in separate transactions.
+ */
+@Service
+@Primary
+@ConditionalOnProperty(name = "taskmanager.sharding.enabled", havingValue = "true")
+public class ShardedTaskListServiceImpl implements TaskListService {
+
+    private static final int CATALOG_SHARD = 0;
+
+    private final TaskListServiceImpl delegate;
+    private final ShardRouter router;
+    private final TaskListRepository taskListRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ShardedTaskListServiceImpl(
+            TaskListServiceImpl delegate,
+            ShardRouter router,
+            TaskListRepository taskListRepository,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.delegate = delegate;
+        this.router = router;
+        this.taskListRepository = taskListRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * The catalog row is removed again if the home shard row cannot be written.
+     */
+    @Override
+    public TaskListResponse createTaskList(CreateTaskListRequest request) {
+
+        TaskListResponse created = router.on(CATALOG_SHARD, () -> delegate.createTaskList(request));
+        int home = router.shardOf(created.getId());
+
+        if (home != CATALOG_SHARD) {
+            try {
+                inShard(home, () -> taskListRepository.insertWithId(created.getId(), created.getName()));
+            } catch (RuntimeException ex) {
+                inShard(CATALOG_SHARD, () -> taskListRepository.deleteTaskListById(created.getId()));
+                throw ex;
+            }
+        }
+
+        return created;
+    }
+
+    @Override
+    public List<TaskListResponse> getAllTaskLists() {
+
+        return router.on(CATALOG_SHARD, delegate::getAllTaskLists);
+    }
+
+    @Override
+    public TaskListResponse getTaskListById(Long id) {
+
+        return router.on(CATALOG_SHARD, () -> delegate.getTaskListById(id));
+    }
+
+    /**
+     * Deletes the Tasks and the home shard row in one transaction, then the catalog row.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TASK_LIST_EXISTS, key = "#id")
+    public void deleteTaskList(Long id) {
+
+        int home = router.shardOf(id);
+
+        if (home == CATALOG_SHARD) {
+            router.on(CATALOG_SHARD, () -> delegate.deleteTaskList(id));
+            return;
+        }
+
+        try {
+            router.on(home, () -> delegate.deleteTaskList(id));
+        } catch (ResourceNotFoundException ex) {
+            // Home shard row missing (interrupted create): still drop the catalog row
+            if (inShard(CATALOG_SHARD, () -> taskListRepository.deleteTaskListById(id)) == 0) {
+                throw ex;
+            }
+            return;
+        }
+
+        inShard(CATALOG_SHARD, () -> taskListRepository.deleteTaskListById(id));
+    }
+
+    /**
+     * The purge runs against the home shard row; the catalog row is hidden right
+     * away and deleted when the purge finishes.
+     */
+    @Override
+    @CacheEvict(cacheNames = CacheConfig.TASK_LIST_EXISTS, key = "#id")
+    public void purgeTaskList(Long id) {
+
+        int home = router.shardOf(id);
+
+        router.on(home, () -> delegate.purgeTaskList(id));
+
+        if (home != CATALOG_SHARD) {
+            inShard(CATALOG_SHARD, () -> taskListRepository.markPurging(id));
+        }
+    }
+
+    private <T> T inShard(int shard, Supplier<T> work) {
+
+        return router.on(shard, () -> transactionTemplate.execute(status -> work.get()));
+    }
+}
@@ -0,0 +1,635 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.config.ShardRouter;
+import com.application.taskmanager.dto.request.BulkMoveTaskRequest;
+import com.application.taskmanager.dto.request.BulkUpdateTaskStatusRequest;
+import com.application.taskmanager.dto.request.CreateTaskRequest;
+import com.application.taskmanager.dto.request.MoveTaskRequest;
+import com.application.taskmanager.dto.request.UpdateTaskStatusRequest;
+import com.application.taskmanager.dto.response.TaskBatchResponse;
+import com.application.taskmanager.dto.response.TaskBulkResponse;
+import com.application.taskmanager.dto.response.TaskPageResponse;
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.exception.BadRequestException;
+import com.application.taskmanager.exception.ConflictException;
+import com.application.taskmanager.exception.ResourceNotFoundException;
+import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.repository.TaskMoveRepository;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.TaskTombstoneRepository;
+import com.application.taskmanager.repository.specification.TaskSortRegistry;
+import com.application.taskmanager.service.TaskEventService;
+import com.application.taskmanager.service.TaskQuotaService;
+import com.application.taskmanager.service.TaskService;
+import com.application.taskmanager.service.TaskSyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Sharded {@link TaskService}: runs {@link TaskServiceImpl} on the shard(s) holding
+ * the Tasks involved (see {@link ShardRouter}).
+ *
+ * <ul>
+ *     <li>List-scoped calls (creates, list reads) run on the TaskList's home shard.</li>
+ *     <li>Calls by Task id first look the Task up, shard by shard: a Task keeps its id
+ *         when it moves to a list on another shard.</li>
+ *     <li>Global listings run on every shard in parallel, with the same filters, sort
+ *         and page size, and the sorted results are k-way merged. Pages of the merge
+ *         use ordinary cursors, which every shard seeks past.</li>
+ *     <li>Bulk status changes run on every shard involved, each in its own transaction.</li>
+ *     <li>A move to a list on another shard first takes the Task out of its source
+ *         shard (guarded by its version) and journals it there, then inserts it on the
+ *         target shard (same id, next version). If the insert fails, the Task is put
+ *         back. The Task is never in two lists; while moving it is in none, and a
+ *         move interrupted by a crash is settled at the next startup (see
+ *         {@link com.application.taskmanager.config.ShardMoveRecovery}).</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@Primary
+@ConditionalOnProperty(name = "taskmanager.sharding.enabled", havingValue = "true")
+public class ShardedTaskServiceImpl implements TaskService {
+
+    private static final int EXPORT_PAGE_SIZE = 500;
+
+    private final TaskServiceImpl delegate;
+    private final ShardRouter router;
+    private final TaskRepository taskRepository;
+    private final TaskListRepository taskListRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskMoveRepository taskMoveRepository;
+    private final TaskQuotaService taskQuotaService;
+    private final TaskEventService taskEventService;
+    private final TaskSyncService taskSyncService;
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+
+    public ShardedTaskServiceImpl(
+            TaskServiceImpl delegate,
+            ShardRouter router,
+            TaskRepository taskRepository,
+            TaskListRepository taskListRepository,
+            TaskTombstoneRepository taskTombstoneRepository,
+            TaskMoveRepository taskMoveRepository,
+            TaskQuotaService taskQuotaService,
+            TaskEventService taskEventService,
+            TaskSyncService taskSyncService,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+            AsyncTaskExecutor executor,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.delegate = delegate;
+        this.router = router;
+        this.taskRepository = taskRepository;
+        this.taskListRepository = taskListRepository;
+        this.taskTombstoneRepository = taskTombstoneRepository;
+        this.taskMoveRepository = taskMoveRepository;
+        this.taskQuotaService = taskQuotaService;
+        this.taskEventService = taskEventService;
+        this.taskSyncService = taskSyncService;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * A Task and the shard it was found on.
+     */
+    private record Located(int shard, TaskResponse task) {
+    }
+
+    /**
+     * Tasks taken out of a shard, as they were, and journaled there until they
+     * arrive on the target shard.
+     */
+    private record Departure(int shard, List<TaskResponse> tasks) {
+    }
+
+    @Override
+    public TaskResponse createTask(Long taskListId, CreateTaskRequest request) {
+
+        return router.on(router.shardOf(taskListId),
+                () -> delegate.createTask(taskListId, request));
+    }
+
+    @Override
+    public TaskBatchResponse createTasks(Long taskListId, List<CreateTaskRequest> requests) {
+
+        return router.on(router.shardOf(taskListId),
+                () -> delegate.createTasks(taskListId, requests));
+    }
+
+    @Override
+    public TaskResponse getTaskById(Long taskId) {
+
+        return locate(taskId).task();
+    }
+
+    @Override
+    public List<TaskResponse> getAllTasks() {
+
+        return scatter(allShards(), () -> delegate.getAllTasks())
+                .stream()
+                .flatMap(List::stream)
+                .toList();
+    }
+
+    @Override
+    public TaskResponse updateTaskStatus(
+            Long taskId,
+            UpdateTaskStatusRequest request,
+            Long expectedVersion
+    ) {
+
+        return router.on(locate(taskId).shard(),
+                () -> delegate.updateTaskStatus(taskId, request, expectedVersion));
+    }
+
+    @Override
+    public TaskResponse moveTask(
+            Long taskId,
+            MoveTaskRequest request,
+            Long expectedVersion
+    ) {
+
+        Long targetTaskListId = request.getTargetTaskListId();
+        int targetShard = router.shardOf(targetTaskListId);
+        Located located = locate(taskId);
+
+        if (located.shard() == targetShard) {
+            return router.on(targetShard,
+                    () -> delegate.moveTask(taskId, request, expectedVersion));
+        }
+
+        if (!router.on(targetShard, () -> taskListRepository.existsById(targetTaskListId))) {
+            throw new ResourceNotFoundException(
+                    "Target TaskList not found with id: " + targetTaskListId);
+        }
+
+        return moveAcrossShards(located, targetTaskListId, expectedVersion);
+    }
+
+    @Override
+    public void deleteTask(Long taskId, Long expectedVersion) {
+
+        router.on(locate(taskId).shard(),
+                () -> delegate.deleteTask(taskId, expectedVersion));
+    }
+
+    /**
+     * Runs on the home shard of the selected TaskList, or on every shard. Each shard
+     * commits on its own.
+     */
+    @Override
+    public TaskBulkResponse updateTasksStatus(BulkUpdateTaskStatusRequest request) {
+
+        List<Integer> shards = request.getTaskListId() != null
+                ? List.of(router.shardOf(request.getTaskListId()))
+                : allShards();
+
+        long affected = scatter(shards, () -> delegate.updateTasksStatus(request))
+                .stream()
+                .mapToLong(TaskBulkResponse::getAffected)
+                .sum();
+
+        return TaskBulkResponse.builder()
+                .affected(affected)
+                .build();
+    }
+
+    /**
+     * All or nothing: the selected Tasks on other shards are taken out shard by shard
+     * (see {@link #takeOut}), then one transaction on the target list's shard moves
+     * the selected Tasks there set-based, as without sharding, and inserts the ones
+     * taken out. If any step fails, every Task taken out is put back.
+     */
+    @Override
+    public TaskBulkResponse moveTasks(BulkMoveTaskRequest request) {
+
+        Long targetTaskListId = request.getTargetTaskListId();
+
+        if (targetTaskListId == null) {
+            throw new BadRequestException("targetTaskListId: Target taskListId is required");
+        }
+
+        int targetShard = router.shardOf(targetTaskListId);
+        List<Integer> sourceShards = request.getTaskListId() != null
+                ? List.of(router.shardOf(request.getTaskListId()))
+                : allShards();
+        boolean local = sourceShards.contains(targetShard);
+
+        if (!local && !router.on(targetShard, () -> taskListRepository.existsById(targetTaskListId))) {
+            throw new ResourceNotFoundException(
+                    "Target TaskList not found with id: " + targetTaskListId);
+        }
+
+        List<Departure> departures = new ArrayList<>();
+        long affected;
+
+        try {
+            for (int shard : sourceShards) {
+                if (shard == targetShard) {
+                    continue;
+                }
+
+                Departure departure = takeOut(shard, () -> selectTasks(request), targetTaskListId);
+
+                if (!departure.tasks().isEmpty()) {
+                    departures.add(departure);
+                }
+            }
+
+            affected = router.on(targetShard, () -> transactionTemplate.execute(status ->
+                    (local ? delegate.moveTasks(request).getAffected() : 0)
+                            + bringIn(departures, targetTaskListId)));
+        } catch (RuntimeException ex) {
+            putBack(departures);
+            throw ex;
+        }
+
+        forget(departures);
+
+        List<Long> remoteSources = departures.stream()
+                .flatMap(departure -> departure.tasks().stream())
+                .map(TaskResponse::getTaskListId)
+                .distinct()
+                .toList();
+
+        if (!remoteSources.isEmpty()) {
+            taskEventService.onTasksChanged(
+                    Stream.concat(remoteSources.stream(), Stream.of(targetTaskListId)).toList());
+        }
+
+        return TaskBulkResponse.builder()
+                .affected(affected)
+                .build();
+    }
+
+    @Override
+    public List<TaskResponse> getAllTasks(
+            String priorities,
+            String efforts,
+            String sortBy,
+            String sortDirection
+    ) {
+
+        Sort sort = delegate.buildSort(sortBy, sortDirection);
+
+        List<List<TaskResponse>> sorted = scatter(allShards(),
+                () -> delegate.getAllTasks(priorities, efforts, sortBy, sortDirection));
+
+        return merge(sorted, TaskSortRegistry.comparator(sort), Integer.MAX_VALUE);
+    }
+
+    @Override
+    public List<TaskResponse> getTasksByTaskListId(
+            Long taskListId,
+            String priorities,
+            String efforts,
+            String sortBy,
+            String sortDirection
+    ) {
+
+        return router.on(router.shardOf(taskListId), () -> delegate.getTasksByTaskListId(
+                taskListId, priorities, efforts, sortBy, sortDirection));
+    }
+
+    /**
+     * Every shard returns its first {@code limit} rows past the cursor; the first
+     * {@code limit} of the merge form the page.
+     */
+    @Override
+    public TaskPageResponse getAllTasksPage(
+            String priorities,
+            String efforts,
+            String sortBy,
+            String sortDirection,
+            String cursor,
+            int limit
+    ) {
+
+        Sort sort = delegate.buildSort(sortBy, sortDirection);
+
+        List<TaskPageResponse> pages = scatter(allShards(), () -> delegate.getAllTasksPage(
+                priorities, efforts, sortBy, sortDirection, cursor, limit));
+
+        List<TaskResponse> merged = merge(
+                pages.stream().map(TaskPageResponse::getItems).toList(),
+                TaskSortRegistry.comparator(sort),
+                limit + 1);
+
+        boolean more = merged.size() > limit
+                || pages.stream().anyMatch(page -> page.getNextCursor() != null);
+
+        List<TaskResponse> items = merged.subList(0, Math.min(limit, merged.size()));
+
+        return TaskPageResponse.builder()
+                .items(items)
+                .nextCursor(more ? delegate.cursorAfter(items.get(items.size() - 1), sort) : null)
+                .build();
+    }
+
+    @Override
+    public TaskPageResponse getTasksPageByTaskListId(
+            Long taskListId,
+            String priorities,
+            String efforts,
+            String sortBy,
+            String sortDirection,
+            String cursor,
+            int limit
+    ) {
+
+        return router.on(router.shardOf(taskListId), () -> delegate.getTasksPageByTaskListId(
+                taskListId, priorities, efforts, sortBy, sortDirection, cursor, limit));
+    }
+
+    /**
+     * Merged pages in id order, so memory stays bounded by the page size times the
+     * number of shards. Unlike the single-database export, this is not one snapshot.
+     */
+    @Override
+    public void exportTasks(
+            String priorities,
+            String efforts,
+            Consumer<TaskResponse> sink
+    ) {
+
+        String cursor = null;
+
+        do {
+            TaskPageResponse page = getAllTasksPage(
+                    priorities, efforts, null, null, cursor, EXPORT_PAGE_SIZE);
+            page.getItems().forEach(sink);
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+    }
+
+    /**
+     * Takes the Task out of its source shard, then inserts it on the target shard. If
+     * the insert fails, the Task is put back and the error is returned.
+     */
+    private TaskResponse moveAcrossShards(Located source, Long targetTaskListId, Long expectedVersion) {
+
+        TaskResponse current = source.task();
+        TaskServiceImpl.checkVersion(current, expectedVersion);
+
+        List<Departure> departures = List.of(
+                takeOut(source.shard(), () -> List.of(current), targetTaskListId));
+
+        try {
+            inShard(router.shardOf(targetTaskListId), () -> bringIn(departures, targetTaskListId));
+        } catch (RuntimeException ex) {
+            putBack(departures);
+            throw ex;
+        }
+
+        forget(departures);
+
+        TaskResponse moved = arrived(current, targetTaskListId);
+        taskEventService.onTaskMoved(moved, current.getTaskListId());
+
+        return moved;
+    }
+
+    /**
+     * The selected Tasks of the current shard, outside the target list.
+     */
+    private List<TaskResponse> selectTasks(BulkMoveTaskRequest request) {
+
+        return delegate.findSelectedIds(request)
+                .stream()
+                .map(taskRepository::findProjectedById)
+                .flatMap(Optional::stream)
+                .toList();
+    }
+
+    /**
+     * In one transaction on the shard: deletes the selected Tasks (each guarded by
+     * the version selected), leaves tombstones for delta sync of their lists and
+     * journals them in {@code task_moves}. Until {@link #bringIn} or {@link #putBack}
+     * the Tasks are in no list.
+     */
+    private Departure takeOut(int shard, Supplier<List<TaskResponse>> selection, Long targetTaskListId) {
+
+        return router.on(shard, () -> transactionTemplate.execute(status -> {
+
+            List<TaskResponse> tasks = selection.get();
+            long changeSeq = taskSyncService.nextChangeSeq();
+
+            for (TaskResponse task : tasks) {
+
+                if (taskRepository.deleteTaskById(task.getId(), task.getVersion()) != 1) {
+                    throw new ConflictException(
+                            "Task " + task.getId() + " changed while being moved, please retry");
+                }
+
+                taskTombstoneRepository.insert(task.getId(), task.getTaskListId(), changeSeq);
+                taskMoveRepository.insert(
+                        task.getId(), task.getTaskListId(), targetTaskListId, task.getName(),
+                        task.getState(), task.getPriority(), task.getEffort(), task.getVersion());
+            }
+
+            return new Departure(shard, tasks);
+        }));
+    }
+
+    /**
+     * Inserts the Tasks taken out into the target list; the quota moves with them.
+     * Must run in a transaction on the target list's shard.
+     *
+     * @return number of Tasks inserted
+     */
+    private long bringIn(List<Departure> departures, Long targetTaskListId) {
+
+        long changeSeq = taskSyncService.nextChangeSeq();
+        long count = 0;
+
+        for (Departure departure : departures) {
+            for (TaskResponse task : departure.tasks()) {
+
+                TaskResponse moved = arrived(task, targetTaskListId);
+
+                taskQuotaService.transfer(task.getTaskListId(), targetTaskListId);
+                taskRepository.insertWithId(
+                        moved.getId(), moved.getTaskListId(), moved.getName(), moved.getState(),
+                        moved.getPriority(), moved.getEffort(), moved.getVersion(), changeSeq);
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Undoes {@link #takeOut}: re-inserts the Tasks as they were and drops their
+     * journal records, in one transaction per shard. If that fails too, the records
+     * stay for the startup recovery, which puts the Tasks back.
+     */
+    private void putBack(List<Departure> departures) {
+
+        for (Departure departure : departures) {
+            try {
+                inShard(departure.shard(), () -> {
+
+                    long changeSeq = taskSyncService.nextChangeSeq();
+
+                    for (TaskResponse task : departure.tasks()) {
+                        taskRepository.insertWithId(
+                                task.getId(), task.getTaskListId(), task.getName(), task.getState(),
+                                task.getPriority(), task.getEffort(), task.getVersion(), changeSeq);
+                    }
+
+                    taskMoveRepository.deleteByTaskIds(ids(departure));
+                });
+            } catch (RuntimeException ex) {
+                log.error("Could not put back Tasks {} on shard {}, left to the startup recovery: {}",
+                        ids(departure), departure.shard(), ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Drops the journal records of Tasks that arrived. Records left by a failure are
+     * dropped by the startup recovery, which finds the Tasks on the target shard.
+     */
+    private void forget(List<Departure> departures) {
+
+        for (Departure departure : departures) {
+            try {
+                inShard(departure.shard(), () -> taskMoveRepository.deleteByTaskIds(ids(departure)));
+            } catch (RuntimeException ex) {
+                log.warn("Could not drop move records of Tasks {} on shard {}: {}",
+                        ids(departure), departure.shard(), ex.getMessage());
+            }
+        }
+    }
+
+    private static TaskResponse arrived(TaskResponse task, Long targetTaskListId) {
+
+        return task.toBuilder()
+                .taskListId(targetTaskListId)
+                .version(task.getVersion() + 1)
+                .build();
+    }
+
+    private static List<Long> ids(Departure departure) {
+
+        return departure.tasks().stream().map(TaskResponse::getId).toList();
+    }
+
+    /**
+     * Finds the Task on the first shard that has it.
+     */
+    private Located locate(Long taskId) {
+
+        for (int shard : allShards()) {
+
+            TaskResponse task = router.on(shard, () -> taskRepository.findProjectedById(taskId))
+                    .orElse(null);
+
+            if (task != null) {
+                return new Located(shard, task);
+            }
+        }
+
+        throw new ResourceNotFoundException("Task not found with id: " + taskId);
+    }
+
+    private void inShard(int shard, Runnable work) {
+
+        router.on(shard, () -> transactionTemplate.executeWithoutResult(status -> work.run()));
+    }
+
+    private List<Integer> allShards() {
+
+        return IntStream.range(0, router.shardCount()).boxed().toList();
+    }
+
+    /**
+     * Runs the call on every given shard in parallel and returns the results in
+     * shard order. The first failure is rethrown as is.
+     */
+    private <T> List<T> scatter(List<Integer> shards, Supplier<T> call) {
+
+        if (shards.size() == 1) {
+            return List.of(router.on(shards.get(0), call));
+        }
+
+        List<CompletableFuture<T>> futures = shards.stream()
+                .map(shard -> CompletableFuture.supplyAsync(() -> router.on(shard, call), executor))
+                .toList();
+
+        try {
+            return futures.stream()
+                    .map(CompletableFuture::join)
+                    .toList();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * K-way merge of lists sorted by {@code order}, keeping the first {@code limit}
+     * rows: a heap holds the head of every list, so each row costs O(log k).
+     */
+    static List<TaskResponse> merge(
+            List<List<TaskResponse>> sorted,
+            Comparator<TaskResponse> order,
+            int limit
+    ) {
+
+        record Head(TaskResponse task, Iterator<TaskResponse> rest) {
+        }
+
+        PriorityQueue<Head> heads = new PriorityQueue<>(
+                Math.max(1, sorted.size()), Comparator.comparing(Head::task, order));
+
+        for (List<TaskResponse> rows : sorted) {
+
+            Iterator<TaskResponse> iterator = rows.iterator();
+
+            if (iterator.hasNext()) {
+                heads.add(new Head(iterator.next(), iterator));
+            }
+        }
+
+        List<TaskResponse> merged = new ArrayList<>();
+
+        while (!heads.isEmpty() && merged.size() < limit) {
+
+            Head head = heads.poll();
+            merged.add(head.task());
+
+            if (head.rest().hasNext()) {
+                heads.add(new Head(head.rest().next(), head.rest()));
+            }
+        }
+
+        return merged;
+    }
+}
@@ -0,0 +1,111 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.config.ShardRouter;
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.dto.response.TaskStatsResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.repository.projection.TaskListGroupCount;
+import com.application.taskmanager.service.TaskStatsService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sharded {@link TaskStatsService}: list statistics are computed on the list's home
+ * shard, global statistics are the sum of every shard's. The summary callbacks run
+ * inside the caller's (single-shard) transaction and are passed through.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "taskmanager.sharding.enabled", havingValue = "true")
+public class ShardedTaskStatsServiceImpl implements TaskStatsService {
+
+    private final TaskStatsServiceImpl delegate;
+    private final ShardRouter router;
+
+    @Override
+    public TaskStatsResponse getStats(String priorities, String efforts) {
+
+        Map<TaskState, Long> byState = new EnumMap<>(TaskState.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        Map<Effort, Long> byEffort = new EnumMap<>(Effort.class);
+        long total = 0;
+
+        for (int shard = 0; shard < router.shardCount(); shard++) {
+
+            TaskStatsResponse stats = router.on(shard, () -> delegate.getStats(priorities, efforts));
+
+            stats.getByState().forEach((state, count) -> byState.merge(state, count, Long::sum));
+            stats.getByPriority().forEach((priority, count) -> byPriority.merge(priority, count, Long::sum));
+            stats.getByEffort().forEach((effort, count) -> byEffort.merge(effort, count, Long::sum));
+            total += stats.getTotal();
+        }
+
+        return TaskStatsResponse.builder()
+                .total(total)
+                .byState(byState)
+                .byPriority(byPriority)
+                .byEffort(byEffort)
+                .build();
+    }
+
+    @Override
+    public TaskStatsResponse getStatsByTaskListId(Long taskListId, String priorities, String efforts) {
+
+        return router.on(router.shardOf(taskListId),
+                () -> delegate.getStatsByTaskListId(taskListId, priorities, efforts));
+    }
+
+    @Override
+    public void onTaskListCreated(Long taskListId) {
+        delegate.onTaskListCreated(taskListId);
+    }
+
+    @Override
+    public void onTaskListDeleted(Long taskListId) {
+        delegate.onTaskListDeleted(taskListId);
+    }
+
+    @Override
+    public void onTaskCreated(TaskResponse task) {
+        delegate.onTaskCreated(task);
+    }
+
+    @Override
+    public void onTasksCreated(List<TaskResponse> tasks) {
+        delegate.onTasksCreated(tasks);
+    }
+
+    @Override
+    public void onTaskDeleted(TaskResponse task) {
+        delegate.onTaskDeleted(task);
+    }
+
+    @Override
+    public void onTaskStateChanged(TaskResponse task, TaskState previousState) {
+        delegate.onTaskStateChanged(task, previousState);
+    }
+
+    @Override
+    public void onTaskMoved(TaskResponse task, Long previousTaskListId) {
+        delegate.onTaskMoved(task, previousTaskListId);
+    }
+
+    @Override
+    public void onTasksStateChanged(List<TaskListGroupCount> groups, TaskState state) {
+        delegate.onTasksStateChanged(groups, state);
+    }
+
+    @Override
+    public void onTasksMoved(List<TaskListGroupCount> groups, Long targetTaskListId) {
+        delegate.onTasksMoved(groups, targetTaskListId);
+    }
+}
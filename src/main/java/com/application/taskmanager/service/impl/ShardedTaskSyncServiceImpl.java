@@ -0,0 +1,36 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.config.ShardRouter;
+import com.application.taskmanager.dto.response.TaskSyncResponse;
+import com.application.taskmanager.service.TaskSyncService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Sharded {@link TaskSyncService}: a TaskList's changes are read on its home shard.
+ * Change sequence values come from shard 0 for every shard, so a Task moved across
+ * shards keeps advancing past the watermarks handed out before the move.
+ */
+@Service
+@Primary
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "taskmanager.sharding.enabled", havingValue = "true")
+public class ShardedTaskSyncServiceImpl implements TaskSyncService {
+
+    private final TaskSyncServiceImpl delegate;
+    private final ShardRouter router;
+
+    @Override
+    public long nextChangeSeq() {
+        return delegate.nextChangeSeq();
+    }
+
+    @Override
+    public TaskSyncResponse getChanges(Long taskListId, String since, int limit) {
+
+        return router.on(router.shardOf(taskListId),
+                () -> delegate.getChanges(taskListId, since, limit));
+    }
+}
@@ -0,0 +1,390 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.dto.response.TaskEvent;
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.TaskEventType;
+import com.application.taskmanager.exception.ResourceNotFoundException;
+import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.service.TaskEventService;
+import com.application.taskmanager.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.context.WebServerGracefulShutdownLifecycle;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory implementation of {@link TaskEventService}.
+ *
+ * <p>
+ * Publishing assigns the next event id, appends the event to a bounded history
+ * ({@code taskmanager.events.history-size}) and offers it to the queue of every
+ * subscriber of the affected lists, all under one lock so each subscriber sees
+ * events in id order without gaps. Publishing never blocks on a client.
+ *
+ * <p>
+ * Each subscriber has a bounded queue ({@code taskmanager.events.subscriber-buffer})
+ * drained by one task at a time on the application task executor. A subscriber
+ * whose queue is full is disconnected: its client reconnects with
+ * {@code Last-Event-ID} and catches up from the history, or gets a RESYNC event
+ * when it fell further behind than the history reaches.
+ *
+ * <p>
+ * Open streams are completed at shutdown before the web server's graceful shutdown
+ * starts, which would otherwise wait for them until its timeout.
+ */
+@Service
+public class TaskEventServiceImpl implements TaskEventService, SmartLifecycle {
+
+    private final TaskListRepository taskListRepository;
+    private final AsyncTaskExecutor executor;
+    private final int historySize;
+    private final int bufferSize;
+    private final long timeoutMs;
+
+    private final Lock lock = new ReentrantLock();
+    private final Deque<TaskEvent> history = new ArrayDeque<>();
+    private final Map<Long, Set<Subscriber>> subscribers = new HashMap<>();
+    private long sequence;
+    private boolean stopped;
+    private volatile boolean running;
+
+    public TaskEventServiceImpl(
+            TaskListRepository taskListRepository,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+            AsyncTaskExecutor executor,
+            @Value("${taskmanager.events.history-size:10000}") int historySize,
+            @Value("${taskmanager.events.subscriber-buffer:256}") int bufferSize,
+            @Value("${taskmanager.events.timeout-ms:1800000}") long timeoutMs
+    ) {
+        this.taskListRepository = taskListRepository;
+        this.executor = executor;
+        this.historySize = historySize;
+        this.bufferSize = bufferSize;
+        this.timeoutMs = timeoutMs;
+    }
+
+    @Override
+    public void onTaskCreated(TaskResponse task) {
+
+        TransactionCallbacks.afterCommit(() -> publish(taskEvent(TaskEventType.CREATED, task)));
+    }
+
+    @Override
+    public void onTasksCreated(List<TaskResponse> tasks) {
+
+        TransactionCallbacks.afterCommit(() ->
+                tasks.forEach(task -> publish(taskEvent(TaskEventType.CREATED, task))));
+    }
+
+    @Override
+    public void onTaskStateChanged(TaskResponse task) {
+
+        TransactionCallbacks.afterCommit(() ->
+                publish(taskEvent(TaskEventType.STATUS_CHANGED, task)));
+    }
+
+    @Override
+    public void onTaskMoved(TaskResponse task, Long previousTaskListId) {
+
+        TransactionCallbacks.afterCommit(() -> publish(TaskEvent.builder()
+                .type(TaskEventType.MOVED)
+                .taskListId(task.getTaskListId())
+                .previousTaskListId(previousTaskListId)
+                .taskId(task.getId())
+                .task(task)));
+    }
+
+    @Override
+    public void onTaskDeleted(TaskResponse task) {
+
+        TransactionCallbacks.afterCommit(() -> publish(TaskEvent.builder()
+                .type(TaskEventType.DELETED)
+                .taskListId(task.getTaskListId())
+                .taskId(task.getId())));
+    }
+
+    @Override
+    public void onTasksChanged(Collection<Long> taskListIds) {
+
+        Set<Long> distinct = new LinkedHashSet<>(taskListIds);
+
+        TransactionCallbacks.afterCommit(() ->
+                distinct.forEach(taskListId -> publish(TaskEvent.builder()
+                        .type(TaskEventType.CHANGED)
+                        .taskListId(taskListId))));
+    }
+
+    @Override
+    public SseEmitter subscribe(Long taskListId, Long lastEventId) {
+
+        if (!taskListRepository.existsById(taskListId)) {
+            throw new ResourceNotFoundException("TaskList not found with id: " + taskListId);
+        }
+
+        Subscriber subscriber = new Subscriber(taskListId, new SseEmitter(timeoutMs), bufferSize);
+
+        subscriber.emitter.onCompletion(() -> unsubscribe(subscriber));
+        subscriber.emitter.onTimeout(() -> unsubscribe(subscriber));
+        subscriber.emitter.onError(ex -> unsubscribe(subscriber));
+
+        // Written as soon as the response starts, so the client gets the headers
+        // right away instead of with the first event
+        try {
+            subscriber.emitter.send(SseEmitter.event().comment("subscribed"));
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        lock.lock();
+        try {
+            if (stopped) {
+                subscriber.emitter.complete();
+                return subscriber.emitter;
+            }
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.computeIfAbsent(taskListId, id -> new LinkedHashSet<>()).add(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        drain(subscriber);
+
+        return subscriber.emitter;
+    }
+
+    @Override
+    public void start() {
+
+        lock.lock();
+        try {
+            stopped = false;
+        } finally {
+            lock.unlock();
+        }
+
+        running = true;
+    }
+
+    /**
+     * Completes every open stream; later subscriptions are completed right away.
+     */
+    @Override
+    public void stop() {
+
+        List<Subscriber> open = new ArrayList<>();
+
+        lock.lock();
+        try {
+            stopped = true;
+            subscribers.values().forEach(open::addAll);
+            subscribers.clear();
+        } finally {
+            lock.unlock();
+        }
+
+        open.forEach(subscriber -> subscriber.emitter.complete());
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Stops before the web server's graceful shutdown.
+     */
+    @Override
+    public int getPhase() {
+        return WebServerGracefulShutdownLifecycle.SMART_LIFECYCLE_PHASE + 1;
+    }
+
+    /**
+     * Queues the retained events after {@code lastEventId}, or a single RESYNC when
+     * they are not all retained (or would not fit the subscriber buffer).
+     * Called with the lock held.
+     */
+    private void replay(Subscriber subscriber, long lastEventId) {
+
+        long oldest = history.isEmpty() ? sequence + 1 : history.peekFirst().getId();
+        boolean retained = lastEventId <= sequence && lastEventId >= oldest - 1;
+
+        List<TaskEvent> missed = new ArrayList<>();
+
+        if (retained) {
+            for (TaskEvent event : history) {
+                if (event.getId() > lastEventId && concerns(event, subscriber.taskListId)) {
+                    missed.add(event);
+                }
+            }
+        }
+
+        if (!retained || missed.size() > bufferSize) {
+            missed = List.of(TaskEvent.builder()
+                    .id(sequence)
+                    .type(TaskEventType.RESYNC)
+                    .taskListId(subscriber.taskListId)
+                    .build());
+        }
+
+        subscriber.queue.addAll(missed);
+    }
+
+    private void publish(TaskEvent.TaskEventBuilder builder) {
+
+        List<Subscriber> ready = new ArrayList<>();
+        List<Subscriber> dropped = new ArrayList<>();
+
+        lock.lock();
+        try {
+            TaskEvent event = builder.id(++sequence).build();
+
+            history.addLast(event);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+
+            offer(event, event.getTaskListId(), ready, dropped);
+
+            if (event.getPreviousTaskListId() != null) {
+                offer(event, event.getPreviousTaskListId(), ready, dropped);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        ready.forEach(this::drain);
+        dropped.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Called with the lock held. Slow subscribers are dropped instead of blocking
+     * the publisher.
+     */
+    private void offer(
+            TaskEvent event,
+            Long taskListId,
+            List<Subscriber> ready,
+            List<Subscriber> dropped
+    ) {
+
+        Set<Subscriber> listSubscribers = subscribers.get(taskListId);
+
+        if (listSubscribers == null) {
+            return;
+        }
+
+        for (Subscriber subscriber : List.copyOf(listSubscribers)) {
+            if (subscriber.queue.offer(event)) {
+                ready.add(subscriber);
+            } else {
+                remove(subscriber);
+                dropped.add(subscriber);
+            }
+        }
+    }
+
+    /**
+     * Sends queued events; at most one drain per subscriber runs at a time.
+     */
+    private void drain(Subscriber subscriber) {
+
+        if (subscriber.queue.isEmpty() || !subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        executor.execute(() -> {
+            try {
+                TaskEvent event;
+                while ((event = subscriber.queue.poll()) != null) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(Long.toString(event.getId()))
+                            .name(event.getType().name())
+                            .data(event, MediaType.APPLICATION_JSON));
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client gone or emitter already completed
+                unsubscribe(subscriber);
+            } finally {
+                subscriber.draining.set(false);
+            }
+
+            // Events offered while the flag was still set
+            drain(subscriber);
+        });
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+
+        lock.lock();
+        try {
+            remove(subscriber);
+        } finally {
+            lock.unlock();
+        }
+
+        subscriber.queue.clear();
+    }
+
+    private void remove(Subscriber subscriber) {
+
+        Set<Subscriber> listSubscribers = subscribers.get(subscriber.taskListId);
+
+        if (listSubscribers != null && listSubscribers.remove(subscriber) && listSubscribers.isEmpty()) {
+            subscribers.remove(subscriber.taskListId);
+        }
+    }
+
+    private static boolean concerns(TaskEvent event, Long taskListId) {
+
+        return taskListId.equals(event.getTaskListId())
+                || taskListId.equals(event.getPreviousTaskListId());
+    }
+
+    private static TaskEvent.TaskEventBuilder taskEvent(TaskEventType type, TaskResponse task) {
+
+        return TaskEvent.builder()
+                .type(type)
+                .taskListId(task.getTaskListId())
+                .taskId(task.getId())
+                .task(task);
+    }
+
+    private static final class Subscriber {
+
+        private final Long taskListId;
+        private final SseEmitter emitter;
+        private final BlockingQueue<TaskEvent> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Long taskListId, SseEmitter emitter, int bufferSize) {
+            this.taskListId = taskListId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,236 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.projection.TaskIndexEntry;
+import com.application.taskmanager.service.TaskFilterIndexService;
+import com.application.taskmanager.util.TransactionCallbacks;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * {@link BitSet}-based implementation of {@link TaskFilterIndexService}.
+ *
+ * <p>
+ * One bitset per Priority and per Effort value (indexed by enum ordinal) plus one of
+ * all indexed Tasks, each with bit {@code i} set for Task id {@code i}. Ids come from a
+ * sequence, so the sets stay dense: a million Tasks cost about 125 KB per set.
+ *
+ * <p>
+ * Enabled with {@code taskmanager.filter-index.enabled=true}; seeded with one streaming
+ * query at startup. The index switches itself off if an id does not fit in an int.
+ * Like the quota counters, it is local to this instance.
+ */
+@Service
+public class TaskFilterIndexServiceImpl implements TaskFilterIndexService, SmartInitializingSingleton {
+
+    private final TaskRepository taskRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final BitSet all = new BitSet();
+    private final BitSet[] byPriority = newBitSets(Priority.values().length);
+    private final BitSet[] byEffort = newBitSets(Effort.values().length);
+
+    private volatile boolean available;
+
+    public TaskFilterIndexServiceImpl(
+            TaskRepository taskRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskmanager.filter-index.enabled:false}") boolean enabled
+    ) {
+        this.taskRepository = taskRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+        this.enabled = enabled;
+    }
+
+    /**
+     * Seeds the index before the application starts serving requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+
+        if (!enabled) {
+            return;
+        }
+
+        boolean seeded = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+
+            try (Stream<TaskIndexEntry> entries = taskRepository.streamIndexEntries()) {
+                return entries.allMatch(entry -> add(entry.id(), entry.priority(), entry.effort()));
+            }
+        }));
+
+        available = seeded;
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return available;
+    }
+
+    @Override
+    public void onTaskCreated(TaskResponse task) {
+
+        if (enabled) {
+            TransactionCallbacks.afterCommit(() ->
+                    add(task.getId(), task.getPriority(), task.getEffort()));
+        }
+    }
+
+    @Override
+    public void onTasksCreated(List<TaskResponse> tasks) {
+
+        if (enabled) {
+            TransactionCallbacks.afterCommit(() ->
+                    tasks.forEach(task -> add(task.getId(), task.getPriority(), task.getEffort())));
+        }
+    }
+
+    @Override
+    public void onTaskDeleted(Long taskId) {
+
+        if (enabled) {
+            TransactionCallbacks.afterCommit(() -> evict(List.of(taskId)));
+        }
+    }
+
+    @Override
+    public void onTasksDeleted(Collection<Long> taskIds) {
+
+        if (enabled) {
+            TransactionCallbacks.afterCommit(() -> evict(taskIds));
+        }
+    }
+
+    @Override
+    public List<Long> findIds(
+            List<Priority> priorities,
+            List<Effort> efforts,
+            Long afterId,
+            boolean ascending,
+            int max
+    ) {
+
+        List<Long> ids = new ArrayList<>(max);
+
+        lock.readLock().lock();
+        try {
+            BitSet candidates = union(byPriority, priorities);
+
+            if (!efforts.isEmpty()) {
+                candidates.and(union(byEffort, efforts));
+            }
+
+            if (ascending) {
+                int from = (afterId == null) ? 0 : (int) Math.max(0, Math.min(afterId + 1, Integer.MAX_VALUE));
+                for (int i = candidates.nextSetBit(from); i >= 0 && ids.size() < max; i = candidates.nextSetBit(i + 1)) {
+                    ids.add((long) i);
+                }
+            } else {
+                int from = (afterId == null) ? candidates.length() - 1 : (int) Math.max(-1, Math.min(afterId - 1, Integer.MAX_VALUE));
+                for (int i = candidates.previousSetBit(from); i >= 0 && ids.size() < max; i = candidates.previousSetBit(i - 1)) {
+                    ids.add((long) i);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return ids;
+    }
+
+    @Override
+    public void evict(Collection<Long> taskIds) {
+
+        lock.writeLock().lock();
+        try {
+            for (Long taskId : taskIds) {
+                if (taskId <= Integer.MAX_VALUE) {
+                    int bit = taskId.intValue();
+                    all.clear(bit);
+                    clear(byPriority, bit);
+                    clear(byEffort, bit);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return false (and the index disabled) if the id cannot be represented as a bit index
+     */
+    private boolean add(Long taskId, Priority priority, Effort effort) {
+
+        if (taskId > Integer.MAX_VALUE) {
+            available = false;
+            return false;
+        }
+
+        int bit = taskId.intValue();
+
+        lock.writeLock().lock();
+        try {
+            all.set(bit);
+            byPriority[priority.ordinal()].set(bit);
+            byEffort[effort.ordinal()].set(bit);
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        return true;
+    }
+
+    /**
+     * OR of the sets of the given values, or a copy of all Tasks when there is no filter.
+     * Always a new BitSet, so the caller may modify it.
+     */
+    private <E extends Enum<E>> BitSet union(BitSet[] sets, List<E> values) {
+
+        if (values.isEmpty()) {
+            return (BitSet) all.clone();
+        }
+
+        BitSet result = new BitSet();
+
+        for (E value : values) {
+            result.or(sets[value.ordinal()]);
+        }
+
+        return result;
+    }
+
+    private static void clear(BitSet[] sets, int bit) {
+
+        for (BitSet set : sets) {
+            set.clear(bit);
+        }
+    }
+
+    private static BitSet[] newBitSets(int count) {
+
+        BitSet[] sets = new BitSet[count];
+
+        for (int i = 0; i < count; i++) {
+            sets[i] = new BitSet();
+        }
+
+        return sets;
+    }
+}
@@ -0,0 +1,140 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.config.ShardRouter;
+import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.service.TaskFilterIndexService;
+import com.application.taskmanager.service.TaskListPurgeService;
+import com.application.taskmanager.service.TaskQuotaService;
+import com.application.taskmanager.service.TaskStatsService;
+import com.application.taskmanager.util.TransactionCallbacks;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Chunked implementation of {@link TaskListPurgeService}.
+ *
+ * <p>
+ * Runs on the application task executor. Every chunk selects up to
+ * {@code taskmanager.purge.chunk-size} Task ids of the list and deletes them in one
+ * statement, releasing their quota when the chunk commits. Purges interrupted by a
+ * shutdown are resumed at startup from the {@code purging} flag.
+ *
+ * <p>
+ * With sharding, the purge runs on the list's home shard and removes the catalog
+ * row on shard 0 last.
+ */
+@Service
+public class TaskListPurgeServiceImpl implements TaskListPurgeService, SmartInitializingSingleton {
+
+    private final TaskRepository taskRepository;
+    private final TaskListRepository taskListRepository;
+    private final TaskQuotaService taskQuotaService;
+    private final TaskStatsService taskStatsService;
+    private final TaskFilterIndexService taskFilterIndexService;
+    private final ShardRouter router;
+    private final AsyncTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public TaskListPurgeServiceImpl(
+            TaskRepository taskRepository,
+            TaskListRepository taskListRepository,
+            TaskQuotaService taskQuotaService,
+            TaskStatsService taskStatsService,
+            TaskFilterIndexService taskFilterIndexService,
+            ShardRouter router,
+            @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+            AsyncTaskExecutor executor,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskmanager.purge.chunk-size:1000}") int chunkSize
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskListRepository = taskListRepository;
+        this.taskQuotaService = taskQuotaService;
+        this.taskStatsService = taskStatsService;
+        this.taskFilterIndexService = taskFilterIndexService;
+        this.router = router;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Resumes purges that did not finish before the last shutdown, on any shard.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+
+        Set<Long> purging = new LinkedHashSet<>();
+
+        for (int shard = 0; shard < router.shardCount(); shard++) {
+            purging.addAll(router.on(shard,
+                    () -> transactionTemplate.execute(status -> taskListRepository.findPurgingIds())));
+        }
+
+        purging.forEach(this::schedule);
+    }
+
+    @Override
+    public void schedule(Long taskListId) {
+
+        TransactionCallbacks.afterCommit(() -> executor.execute(() -> purge(taskListId)));
+    }
+
+    private void purge(Long taskListId) {
+
+        int home = router.shardOf(taskListId);
+
+        router.on(home, () -> {
+
+            while (deleteChunk(taskListId) == chunkSize) {
+                // keep going until a short chunk shows the list is (almost) empty
+            }
+
+            // Remaining Tasks (if any) and the TaskList row go in one final transaction
+            transactionTemplate.executeWithoutResult(status -> {
+
+                int deleted = taskRepository.deleteByTaskListId(taskListId);
+                taskListRepository.deleteTaskListById(taskListId);
+
+                taskQuotaService.release(taskListId, deleted);
+                taskStatsService.onTaskListDeleted(taskListId);
+            });
+        });
+
+        if (home != 0) {
+            router.on(0, () -> transactionTemplate.executeWithoutResult(
+                    status -> taskListRepository.deleteTaskListById(taskListId)));
+        }
+    }
+
+    private int deleteChunk(Long taskListId) {
+
+        return transactionTemplate.execute(status -> {
+
+            List<Long> ids = taskRepository.findIdsByTaskListId(taskListId, Limit.of(chunkSize));
+
+            if (ids.isEmpty()) {
+                return 0;
+            }
+
+            int deleted = taskRepository.deleteByTaskListIdAndIds(taskListId, ids);
+            taskQuotaService.release(taskListId, deleted);
+            taskFilterIndexService.onTasksDeleted(ids);
+
+            return ids.size();
+        });
+    }
+}
@@ -1,46 +1,63 @@
 package com.application.taskmanager.service.impl;
 
+import com.application.taskmanager.config.CacheConfig;
 import com.application.taskmanager.dto.request.CreateTaskListRequest;
 import com.application.taskmanager.dto.response.TaskListResponse;
 import com.application.taskmanager.entity.TaskList;
 import com.application.taskmanager.exception.ResourceNotFoundException;
 import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.service.TaskListPurgeService;
 import com.application.taskmanager.service.TaskListService;
+import com.application.taskmanager.service.TaskQuotaService;
+import com.application.taskmanager.service.TaskStatsService;
+import com.application.taskmanager.util.TransactionCallbacks;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class TaskListServiceImpl implements TaskListService {
 
     private final TaskListRepository taskListRepository;
+    private final TaskRepository taskRepository;
+    private final TaskQuotaService taskQuotaService;
+    private final TaskStatsService taskStatsService;
+    private final TaskListPurgeService taskListPurgeService;
+    private final CacheManager cacheManager;
 
     @Override
+    @Transactional
     public TaskListResponse createTaskList(CreateTaskListRequest request) {
 
         TaskList taskList = TaskList.builder()
                 .name(request.getName())
                 .build();
 
-        return mapToResponse(taskListRepository.save(taskList));
+        TaskList saved = taskListRepository.save(taskList);
+        taskStatsService.onTaskListCreated(saved.getId());
+
+        return mapToResponse(saved);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskListResponse> getAllTaskLists() {
 
-        return taskListRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return taskListRepository.findAllProjected();
     }
 
     @Override
+    @Transactional(readOnly = true)
     public TaskListResponse getTaskListById(Long id) {
 
         TaskList taskList = taskListRepository.findById(id)
+                .filter(list -> !list.isPurging())
                 .orElseThrow(() ->
                         new ResourceNotFoundException("TaskList not found with id: " + id));
 
@@ -48,13 +65,50 @@ public class TaskListServiceImpl implements TaskListService {
     }
 
     @Override
+    @Transactional
     public void deleteTaskList(Long id) {
 
-        if (!taskListRepository.existsById(id)) {
+        // Tasks first (foreign key), both set-based, in this transaction
+        int deletedTasks = taskRepository.deleteByTaskListId(id);
+
+        if (taskListRepository.deleteTaskListById(id) == 0) {
+            throw new ResourceNotFoundException("TaskList not found with id: " + id);
+        }
+
+        taskQuotaService.release(id, deletedTasks);
+        taskStatsService.onTaskListDeleted(id);
+        evictExistsAfterCommit(id);
+    }
+
+    /**
+     * Flags the list as purging (one UPDATE) and hands the deletion of its Tasks
+     * to the background purge once this transaction commits. The summary rows go
+     * right away, since the list no longer counts as existing.
+     */
+    @Override
+    @Transactional
+    public void purgeTaskList(Long id) {
+
+        if (taskListRepository.markPurging(id) == 0) {
             throw new ResourceNotFoundException("TaskList not found with id: " + id);
         }
 
-        taskListRepository.deleteById(id);
+        taskStatsService.onTaskListDeleted(id);
+        taskListPurgeService.schedule(id);
+        evictExistsAfterCommit(id);
+    }
+
+    /**
+     * Only positive lookups are cached. Evicting before the commit would let a
+     * concurrent lookup that still sees the row put it back for the whole TTL.
+     */
+    private void evictExistsAfterCommit(Long id) {
+
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_LIST_EXISTS);
+
+        if (cache != null) {
+            TransactionCallbacks.afterCommit(() -> cache.evict(id));
+        }
     }
 
     private TaskListResponse mapToResponse(TaskList taskList) {
@@ -62,6 +116,7 @@ public class TaskListServiceImpl implements TaskListService {
         return TaskListResponse.builder()
                 .id(taskList.getId())
                 .name(taskList.getName())
+                .version(taskList.getVersion())
                 .build();
     }
 }
\ No newline at end of file
@@ -0,0 +1,158 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.config.ShardRouter;
+import com.application.taskmanager.exception.BadRequestException;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.projection.TaskListTaskCount;
+import com.application.taskmanager.service.TaskQuotaService;
+import com.application.taskmanager.util.TransactionCallbacks;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-memory implementation of {@link TaskQuotaService}.
+ *
+ * <p>
+ * Keeps one atomic counter for all Tasks and one per TaskList, seeded from the
+ * database at startup. Limits are enforced with compare-and-set, so a check costs
+ * O(1) regardless of table size.
+ *
+ * <p>
+ * Counters are local to this instance; all writes must go through it. With
+ * sharding they cover every shard.
+ */
+@Service
+public class TaskQuotaServiceImpl implements TaskQuotaService {
+
+    private final TaskRepository taskRepository;
+    private final ShardRouter router;
+    private final long maxTasks;
+    private final long maxTasksPerList;
+
+    private final AtomicLong totalTasks = new AtomicLong();
+    private final Map<Long, AtomicLong> tasksPerList = new ConcurrentHashMap<>();
+
+    public TaskQuotaServiceImpl(
+            TaskRepository taskRepository,
+            ShardRouter router,
+            @Value("${taskmanager.quota.max-tasks:50}") long maxTasks,
+            @Value("${taskmanager.quota.max-tasks-per-list:0}") long maxTasksPerList
+    ) {
+        this.taskRepository = taskRepository;
+        this.router = router;
+        this.maxTasks = maxTasks;
+        this.maxTasksPerList = maxTasksPerList;
+    }
+
+    /**
+     * Seeds the counters with a single grouped query (per shard).
+     */
+    @PostConstruct
+    public void seed() {
+
+        long total = 0;
+
+        for (int shard = 0; shard < router.shardCount(); shard++) {
+
+            for (TaskListTaskCount row : router.on(shard, taskRepository::countTasksByTaskList)) {
+                listCounter(row.getTaskListId()).addAndGet(row.getTaskCount());
+                total += row.getTaskCount();
+            }
+        }
+
+        totalTasks.set(total);
+    }
+
+    @Override
+    public void reserve(Long taskListId) {
+
+        if (!tryIncrement(totalTasks, maxTasks)) {
+            throw new BadRequestException("Maximum task limit (" + maxTasks + ") reached");
+        }
+
+        if (!tryIncrement(listCounter(taskListId), maxTasksPerList)) {
+            totalTasks.decrementAndGet();
+            throw new BadRequestException("Maximum task limit (" + maxTasksPerList
+                    + ") reached for TaskList id: " + taskListId);
+        }
+
+        TransactionCallbacks.afterRollback(() -> {
+            listCounter(taskListId).decrementAndGet();
+            totalTasks.decrementAndGet();
+        });
+    }
+
+    @Override
+    public void release(Long taskListId, int count) {
+
+        if (count <= 0) {
+            return;
+        }
+
+        TransactionCallbacks.afterCommit(() -> {
+            listCounter(taskListId).addAndGet(-count);
+            totalTasks.addAndGet(-count);
+        });
+    }
+
+    @Override
+    public void transfer(Long sourceTaskListId, Long targetTaskListId) {
+
+        transfer(sourceTaskListId, targetTaskListId, 1);
+    }
+
+    @Override
+    public void transfer(Long sourceTaskListId, Long targetTaskListId, long count) {
+
+        if (count <= 0 || sourceTaskListId.equals(targetTaskListId)) {
+            return;
+        }
+
+        if (!tryAdd(listCounter(targetTaskListId), count, maxTasksPerList)) {
+            throw new BadRequestException("Maximum task limit (" + maxTasksPerList
+                    + ") reached for TaskList id: " + targetTaskListId);
+        }
+
+        TransactionCallbacks.afterRollback(() -> listCounter(targetTaskListId).addAndGet(-count));
+        TransactionCallbacks.afterCommit(() -> listCounter(sourceTaskListId).addAndGet(-count));
+    }
+
+    private AtomicLong listCounter(Long taskListId) {
+
+        return tasksPerList.computeIfAbsent(taskListId, id -> new AtomicLong());
+    }
+
+    /**
+     * Increments the counter unless that would exceed the limit (0 = unlimited).
+     */
+    private static boolean tryIncrement(AtomicLong counter, long limit) {
+
+        return tryAdd(counter, 1, limit);
+    }
+
+    /**
+     * Adds {@code delta} to the counter unless that would exceed the limit (0 = unlimited).
+     */
+    private static boolean tryAdd(AtomicLong counter, long delta, long limit) {
+
+        if (limit <= 0) {
+            counter.addAndGet(delta);
+            return true;
+        }
+
+        long current;
+        do {
+            current = counter.get();
+            if (current + delta > limit) {
+                return false;
+            }
+        } while (!counter.compareAndSet(current, current + delta));
+
+        return true;
+    }
+}
@@ -1,50 +1,87 @@
 package com.application.taskmanager.service.impl;
 
+import com.application.taskmanager.dto.request.BulkMoveTaskRequest;
+import com.application.taskmanager.dto.request.BulkUpdateTaskStatusRequest;
 import com.application.taskmanager.dto.request.CreateTaskRequest;
 import com.application.taskmanager.dto.request.MoveTaskRequest;
+import com.application.taskmanager.dto.request.TaskSelectionRequest;
 import com.application.taskmanager.dto.request.UpdateTaskStatusRequest;
+import com.application.taskmanager.dto.response.TaskBatchItemResult;
+import com.application.taskmanager.dto.response.TaskBatchResponse;
+import com.application.taskmanager.dto.response.TaskBulkResponse;
+import com.application.taskmanager.dto.response.TaskPageResponse;
 import com.application.taskmanager.dto.response.TaskResponse;
 import com.application.taskmanager.entity.Task;
 import com.application.taskmanager.enums.Effort;
 import com.application.taskmanager.enums.Priority;
 import com.application.taskmanager.enums.TaskState;
 import com.application.taskmanager.exception.BadRequestException;
+import com.application.taskmanager.exception.ConflictException;
+import com.application.taskmanager.exception.PreconditionFailedException;
 import com.application.taskmanager.exception.ResourceNotFoundException;
 import com.application.taskmanager.repository.TaskListRepository;
 import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.TaskTombstoneRepository;
+import com.application.taskmanager.repository.projection.TaskListGroupCount;
+import com.application.taskmanager.repository.specification.TaskSortRegistry;
 import com.application.taskmanager.repository.specification.TaskSpecification;
+import com.application.taskmanager.service.TaskEventService;
+import com.application.taskmanager.service.TaskFilterIndexService;
+import com.application.taskmanager.service.TaskQuotaService;
 import com.application.taskmanager.service.TaskService;
+import com.application.taskmanager.service.TaskStatsService;
+import com.application.taskmanager.service.TaskStatusBufferService;
+import com.application.taskmanager.service.TaskSyncService;
+import com.application.taskmanager.util.CursorCodec;
 import com.application.taskmanager.util.EnumParser;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.BeanWrapperImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.springframework.data.domain.Sort;
 
 @Service
 @RequiredArgsConstructor
 public class TaskServiceImpl implements TaskService {
 
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_BATCH_SIZE = 5000;
+
     private final TaskRepository taskRepository;
     private final TaskListRepository taskListRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final TaskQuotaService taskQuotaService;
+    private final TaskStatsService taskStatsService;
+    private final TaskFilterIndexService taskFilterIndexService;
+    private final TaskEventService taskEventService;
+    private final TaskSyncService taskSyncService;
+    private final TaskStatusBufferService taskStatusBufferService;
+    private final Validator validator;
 
     /**
      * Create Task inside a TaskList.
      */
     @Override
+    @Transactional
     public TaskResponse createTask(Long taskListId, CreateTaskRequest request) {
 
         if (!taskListRepository.existsById(taskListId)) {
             throw new ResourceNotFoundException("TaskList not found with id: " + taskListId);
         }
 
-        long totalTasks = taskRepository.count();
-        if (totalTasks >= 50) {
-            throw new BadRequestException("Maximum task limit (50) reached");
-        }
+        taskQuotaService.reserve(taskListId);
 
         Task task = Task.builder()
                 .taskListId(taskListId)
@@ -52,72 +89,447 @@ public class TaskServiceImpl implements TaskService {
                 .priority(request.getPriority())
                 .effort(request.getEffort())
                 .state(TaskState.PENDING)
+                .changeSeq(taskSyncService.nextChangeSeq())
                 .build();
 
-        return mapToResponse(taskRepository.save(task));
+        TaskResponse created = mapToResponse(taskRepository.save(task));
+        taskStatsService.onTaskCreated(created);
+        taskFilterIndexService.onTaskCreated(created);
+        taskEventService.onTaskCreated(created);
+
+        return created;
     }
 
+    /**
+     * Create many Tasks inside a TaskList.
+     *
+     * The TaskList is checked once for the whole batch.
+     * Invalid items are reported per index; valid ones are persisted together
+     * so Hibernate can send them as JDBC batches.
+     */
     @Override
-    public TaskResponse getTaskById(Long taskId) {
+    @Transactional
+    public TaskBatchResponse createTasks(Long taskListId, List<CreateTaskRequest> requests) {
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() ->
-                        new ResourceNotFoundException("Task not found with id: " + taskId));
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("Batch must contain at least one task");
+        }
+
+        if (requests.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(
+                    "Batch must not contain more than " + MAX_BATCH_SIZE + " tasks");
+        }
+
+        if (!taskListRepository.existsById(taskListId)) {
+            throw new ResourceNotFoundException("TaskList not found with id: " + taskListId);
+        }
 
-        return mapToResponse(task);
+        long changeSeq = taskSyncService.nextChangeSeq();
+
+        TaskBatchItemResult[] results = new TaskBatchItemResult[requests.size()];
+        List<Integer> acceptedIndexes = new ArrayList<>();
+        List<Task> accepted = new ArrayList<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+
+            String error = validate(requests.get(i));
+
+            if (error == null) {
+                try {
+                    taskQuotaService.reserve(taskListId);
+                } catch (BadRequestException ex) {
+                    error = ex.getMessage();
+                }
+            }
+
+            if (error != null) {
+                results[i] = TaskBatchItemResult.builder()
+                        .index(i)
+                        .error(error)
+                        .build();
+                continue;
+            }
+
+            CreateTaskRequest request = requests.get(i);
+
+            accepted.add(Task.builder()
+                    .taskListId(taskListId)
+                    .name(request.getName())
+                    .priority(request.getPriority())
+                    .effort(request.getEffort())
+                    .state(TaskState.PENDING)
+                    .changeSeq(changeSeq)
+                    .build());
+            acceptedIndexes.add(i);
+        }
+
+        List<TaskResponse> saved = taskRepository.saveAll(accepted)
+                .stream()
+                .map(this::mapToResponse)
+                .toList();
+        taskStatsService.onTasksCreated(saved);
+        taskFilterIndexService.onTasksCreated(saved);
+        taskEventService.onTasksCreated(saved);
+
+        for (int i = 0; i < saved.size(); i++) {
+            int index = acceptedIndexes.get(i);
+            results[index] = TaskBatchItemResult.builder()
+                    .index(index)
+                    .task(saved.get(i))
+                    .build();
+        }
+
+        return TaskBatchResponse.builder()
+                .created(saved.size())
+                .failed(requests.size() - saved.size())
+                .results(List.of(results))
+                .build();
+    }
+
+    /**
+     * Bean validation of a single batch item, formatted as
+     * {@code fieldName: errorMessage}, or null when valid.
+     */
+    private String validate(CreateTaskRequest request) {
+
+        if (request == null) {
+            return "Task must not be null";
+        }
+
+        Set<ConstraintViolation<CreateTaskRequest>> violations =
+                validator.validate(request);
+
+        return violations.stream()
+                .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .findFirst()
+                .orElse(null);
     }
 
     @Override
+    @Transactional(readOnly = true)
+    public TaskResponse getTaskById(Long taskId) {
+
+        return taskStatusBufferService.find(taskId)
+                .orElseGet(() -> findResponse(taskId));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<TaskResponse> getAllTasks() {
 
-        return taskRepository.findAll()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        return taskRepository.findAllProjected(null, Sort.unsorted(), 0);
     }
 
+    /**
+     * Conditional UPDATE guarded by the version that was read, so the previous state
+     * handed to the statistics is exact. Costs one SELECT and one UPDATE; a lost
+     * race with another writer re-reads, and fails with 412 if the caller sent
+     * an If-Match version.
+     *
+     * With the status buffer enabled, the change is acknowledged from memory and
+     * written by the next flush.
+     */
     @Override
-    public TaskResponse updateTaskStatus(Long taskId, UpdateTaskStatusRequest request) {
+    @Transactional
+    public TaskResponse updateTaskStatus(
+            Long taskId,
+            UpdateTaskStatusRequest request,
+            Long expectedVersion
+    ) {
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() ->
-                        new ResourceNotFoundException("Task not found with id: " + taskId));
+        TaskState state = request.getState();
+
+        if (taskStatusBufferService.isEnabled()) {
+            return taskStatusBufferService.updateState(taskId, state, expectedVersion);
+        }
+
+        while (true) {
+
+            TaskResponse current = findResponse(taskId);
+            checkVersion(current, expectedVersion);
+
+            if (current.getState() == state) {
+                return current;
+            }
+
+            long changeSeq = taskSyncService.nextChangeSeq();
 
-        task.setState(request.getState());
+            if (taskRepository.updateState(taskId, current.getVersion(), state, changeSeq) == 1) {
 
-        return mapToResponse(taskRepository.save(task));
+                TaskResponse updated = current.toBuilder()
+                        .state(state)
+                        .version(current.getVersion() + 1)
+                        .build();
+                taskStatsService.onTaskStateChanged(updated, current.getState());
+                taskEventService.onTaskStateChanged(updated);
+
+                return updated;
+            }
+        }
     }
 
+    /**
+     * Conditional UPDATE guarded by the version that was read, so quota and
+     * statistics move the Task from the right list, plus a tombstone INSERT for
+     * delta sync of the source list. The target list check is normally served
+     * from the TaskList cache.
+     */
     @Override
-    public TaskResponse moveTask(Long taskId, MoveTaskRequest request) {
+    @Transactional
+    public TaskResponse moveTask(
+            Long taskId,
+            MoveTaskRequest request,
+            Long expectedVersion
+    ) {
 
-        Task task = taskRepository.findById(taskId)
-                .orElseThrow(() ->
-                        new ResourceNotFoundException("Task not found with id: " + taskId));
+        Long targetTaskListId = request.getTargetTaskListId();
 
         // Validate target list exists
-        if (!taskListRepository.existsById(request.getTargetTaskListId())) {
+        if (!taskListRepository.existsById(targetTaskListId)) {
             throw new ResourceNotFoundException(
-                    "Target TaskList not found with id: " + request.getTargetTaskListId());
+                    "Target TaskList not found with id: " + targetTaskListId);
         }
 
-        //Just update the foreign key ID
-        task.setTaskListId(request.getTargetTaskListId());
+        taskStatusBufferService.writePending(List.of(taskId));
+
+        while (true) {
+
+            TaskResponse current = findResponse(taskId);
+            checkVersion(current, expectedVersion);
 
-        return mapToResponse(taskRepository.save(task));
+            Long previousTaskListId = current.getTaskListId();
+
+            if (previousTaskListId.equals(targetTaskListId)) {
+                return current;
+            }
+
+            long changeSeq = taskSyncService.nextChangeSeq();
+
+            if (taskRepository.updateTaskListId(
+                    taskId, current.getVersion(), targetTaskListId, changeSeq) == 1) {
+
+                taskTombstoneRepository.insert(taskId, previousTaskListId, changeSeq);
+                taskQuotaService.transfer(previousTaskListId, targetTaskListId);
+
+                TaskResponse moved = current.toBuilder()
+                        .taskListId(targetTaskListId)
+                        .version(current.getVersion() + 1)
+                        .build();
+                taskStatsService.onTaskMoved(moved, previousTaskListId);
+                taskEventService.onTaskMoved(moved, previousTaskListId);
+
+                return moved;
+            }
+        }
     }
 
+    /**
+     * One SELECT (for quota/statistics bookkeeping), one DELETE guarded by
+     * the version that was read and a tombstone INSERT for delta sync.
+     */
     @Override
-    public void deleteTask(Long taskId) {
+    @Transactional
+    public void deleteTask(Long taskId, Long expectedVersion) {
+
+        taskStatusBufferService.writePending(List.of(taskId));
 
-        if (!taskRepository.existsById(taskId)) {
-            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        while (true) {
+
+            TaskResponse task = findResponse(taskId);
+            checkVersion(task, expectedVersion);
+
+            long changeSeq = taskSyncService.nextChangeSeq();
+
+            if (taskRepository.deleteTaskById(taskId, task.getVersion()) == 1) {
+
+                taskTombstoneRepository.insert(taskId, task.getTaskListId(), changeSeq);
+                taskQuotaService.release(task.getTaskListId(), 1);
+                taskStatsService.onTaskDeleted(task);
+                taskFilterIndexService.onTaskDeleted(taskId);
+                taskEventService.onTaskDeleted(task);
+
+                return;
+            }
         }
+    }
 
-        taskRepository.deleteById(taskId);
+    /**
+     * Set-based state change: one grouped SELECT of the affected rows (for the
+     * statistics deltas) and one UPDATE, however many Tasks are selected.
+     */
+    @Override
+    @Transactional
+    public TaskBulkResponse updateTasksStatus(BulkUpdateTaskStatusRequest request) {
+
+        TaskState state = request.getState();
+
+        if (state == null) {
+            throw new BadRequestException("state: State is required");
+        }
+
+        taskStatusBufferService.writeAllPending();
+
+        Specification<Task> spec = bulkSelection(request)
+                .and(TaskSpecification.notInState(state));
+
+        List<TaskListGroupCount> groups = taskRepository.countGroupedByTaskList(spec);
+        int affected = taskRepository.bulkUpdateState(
+                spec, state, taskSyncService.nextChangeSeq());
+
+        checkAffected(groups, affected);
+        taskStatsService.onTasksStateChanged(groups, state);
+        taskEventService.onTasksChanged(countsByList(groups).keySet());
+
+        return TaskBulkResponse.builder()
+                .affected(affected)
+                .build();
+    }
+
+    /**
+     * Set-based move: one grouped SELECT of the affected rows per source list
+     * (for quota and statistics) and one UPDATE. The target list quota is reserved
+     * before the UPDATE, so a full target list fails the whole move. The moved ids
+     * are selected once more to leave tombstones in the source lists.
+     */
+    @Override
+    @Transactional
+    public TaskBulkResponse moveTasks(BulkMoveTaskRequest request) {
+
+        Long targetTaskListId = request.getTargetTaskListId();
+
+        if (targetTaskListId == null) {
+            throw new BadRequestException("targetTaskListId: Target taskListId is required");
+        }
+
+        if (!taskListRepository.existsById(targetTaskListId)) {
+            throw new ResourceNotFoundException(
+                    "Target TaskList not found with id: " + targetTaskListId);
+        }
+
+        taskStatusBufferService.writeAllPending();
+
+        Specification<Task> spec = bulkSelection(request)
+                .and(TaskSpecification.notInTaskList(targetTaskListId));
+
+        List<TaskListGroupCount> groups = taskRepository.countGroupedByTaskList(spec);
+
+        Map<Long, Long> countsBySource = countsByList(groups);
+
+        countsBySource.forEach((sourceTaskListId, count) ->
+                taskQuotaService.transfer(sourceTaskListId, targetTaskListId, count));
+
+        long changeSeq = taskSyncService.nextChangeSeq();
+
+        if (!groups.isEmpty()) {
+            writeTombstones(taskRepository.findIds(spec), changeSeq);
+        }
+
+        int affected = taskRepository.bulkUpdateTaskListId(spec, targetTaskListId, changeSeq);
+
+        checkAffected(groups, affected);
+        taskStatsService.onTasksMoved(groups, targetTaskListId);
+
+        if (affected > 0) {
+            taskEventService.onTasksChanged(Stream.concat(
+                            countsBySource.keySet().stream(), Stream.of(targetTaskListId))
+                    .toList());
+        }
+
+        return TaskBulkResponse.builder()
+                .affected(affected)
+                .build();
+    }
+
+    /**
+     * Turns a bulk selection into a Specification; at least one criterion is required.
+     */
+    private Specification<Task> bulkSelection(TaskSelectionRequest request) {
+
+        List<Long> ids = request.getIds();
+        Long taskListId = request.getTaskListId();
+        List<Priority> priorities = request.getPriorities();
+        List<Effort> efforts = request.getEfforts();
+
+        boolean hasIds = ids != null && !ids.isEmpty();
+
+        if (!hasIds && taskListId == null
+                && (priorities == null || priorities.isEmpty())
+                && (efforts == null || efforts.isEmpty())) {
+            throw new BadRequestException("Bulk operation requires ids or a filter");
+        }
+
+        if (hasIds && ids.size() > MAX_BATCH_SIZE) {
+            throw new BadRequestException(
+                    "Bulk operation must not list more than " + MAX_BATCH_SIZE + " ids");
+        }
+
+        if (taskListId != null && !taskListRepository.existsById(taskListId)) {
+            throw new ResourceNotFoundException(
+                    "TaskList not found with id: " + taskListId);
+        }
+
+        // Null when only ids are given; never null otherwise (checked above)
+        Specification<Task> filter = TaskSpecification.filterTasks(taskListId, priorities, efforts);
+
+        if (!hasIds) {
+            return filter;
+        }
+
+        return (filter == null)
+                ? TaskSpecification.hasIds(ids)
+                : filter.and(TaskSpecification.hasIds(ids));
+    }
+
+    /**
+     * Ids of the Tasks a bulk selection matches, in id order
+     * (package-private for moving them one by one across shards).
+     */
+    @Transactional(readOnly = true)
+    List<Long> findSelectedIds(TaskSelectionRequest request) {
+
+        return taskRepository.findIds(bulkSelection(request));
+    }
+
+    /**
+     * Tombstones for Tasks about to leave their list, in chunks of bounded IN lists.
+     */
+    private void writeTombstones(List<Long> taskIds, long changeSeq) {
+
+        for (int from = 0; from < taskIds.size(); from += MAX_BATCH_SIZE) {
+            taskTombstoneRepository.insertForTasks(
+                    taskIds.subList(from, Math.min(from + MAX_BATCH_SIZE, taskIds.size())),
+                    changeSeq);
+        }
+    }
+
+    private static Map<Long, Long> countsByList(List<TaskListGroupCount> groups) {
+
+        return groups.stream()
+                .collect(Collectors.groupingBy(
+                        TaskListGroupCount::taskListId,
+                        Collectors.summingLong(TaskListGroupCount::count)));
+    }
+
+    /**
+     * The grouped SELECT and the UPDATE run with the same predicate; if a concurrent
+     * writer changed the selection in between, the counters would drift, so the
+     * transaction is rolled back instead.
+     */
+    private static void checkAffected(List<TaskListGroupCount> groups, int affected) {
+
+        long expected = groups.stream()
+                .mapToLong(TaskListGroupCount::count)
+                .sum();
+
+        if (expected != affected) {
+            throw new ConflictException(
+                    "Tasks matching the selection changed concurrently, please retry");
+        }
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskResponse> getAllTasks(
             String prioritiesCsv,
             String effortsCsv,
@@ -131,18 +543,13 @@ public class TaskServiceImpl implements TaskService {
         List<Effort> efforts =
                 EnumParser.parseCsv(effortsCsv, Effort.class);
 
-        Specification<Task> spec =
-                TaskSpecification.filterTasks(null, priorities, efforts);
-
         Sort sort = buildSort(sortBy, sortDirection);
 
-        return taskRepository.findAll(spec, sort)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+        return taskRepository.findAllFiltered(null, priorities, efforts, sort);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<TaskResponse> getTasksByTaskListId(
             Long taskListId,
             String prioritiesCsv,
@@ -156,6 +563,63 @@ public class TaskServiceImpl implements TaskService {
                     "TaskList not found with id: " + taskListId);
         }
 
+        List<Priority> priorities =
+                EnumParser.parseCsv(prioritiesCsv, Priority.class);
+
+        List<Effort> efforts =
+                EnumParser.parseCsv(effortsCsv, Effort.class);
+
+        Sort sort = buildSort(sortBy, sortDirection);
+
+        return taskRepository.findAllFiltered(taskListId, priorities, efforts, sort);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponse getAllTasksPage(
+            String prioritiesCsv,
+            String effortsCsv,
+            String sortBy,
+            String sortDirection,
+            String cursor,
+            int limit
+    ) {
+
+        List<Priority> priorities =
+                EnumParser.parseCsv(prioritiesCsv, Priority.class);
+
+        List<Effort> efforts =
+                EnumParser.parseCsv(effortsCsv, Effort.class);
+
+        Sort sort = buildSort(sortBy, sortDirection);
+
+        if (taskFilterIndexService.isAvailable() && isIdOrderOnly(sort)) {
+            return findIndexedPage(priorities, efforts, sort, cursor, limit);
+        }
+
+        Specification<Task> spec =
+                TaskSpecification.filterTasks(null, priorities, efforts);
+
+        return findPage(spec, sort, cursor, limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskPageResponse getTasksPageByTaskListId(
+            Long taskListId,
+            String prioritiesCsv,
+            String effortsCsv,
+            String sortBy,
+            String sortDirection,
+            String cursor,
+            int limit
+    ) {
+
+        if (!taskListRepository.existsById(taskListId)) {
+            throw new ResourceNotFoundException(
+                    "TaskList not found with id: " + taskListId);
+        }
+
         List<Priority> priorities =
                 EnumParser.parseCsv(prioritiesCsv, Priority.class);
 
@@ -165,51 +629,239 @@ public class TaskServiceImpl implements TaskService {
         Specification<Task> spec =
                 TaskSpecification.filterTasks(taskListId, priorities, efforts);
 
-        Sort sort = buildSort(sortBy, sortDirection);
+        return findPage(spec, buildSort(sortBy, sortDirection), cursor, limit);
+    }
 
-        return taskRepository.findAll(spec, sort)
-                .stream()
-                .map(this::mapToResponse)
-                .toList();
+    /**
+     * Streams every matching task to the sink in id order, one row at a time.
+     * Nothing is collected, so heap use does not depend on the number of rows.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void exportTasks(
+            String prioritiesCsv,
+            String effortsCsv,
+            Consumer<TaskResponse> sink
+    ) {
+
+        List<Priority> priorities =
+                EnumParser.parseCsv(prioritiesCsv, Priority.class);
+
+        List<Effort> efforts =
+                EnumParser.parseCsv(effortsCsv, Effort.class);
+
+        Specification<Task> spec =
+                TaskSpecification.filterTasks(null, priorities, efforts);
+
+        try (Stream<Task> tasks =
+                     taskRepository.streamAll(spec, Sort.by(Task.Fields.ID))) {
+
+            tasks.map(this::mapToResponse).forEach(sink);
+        }
     }
 
     /**
-     * Entity → DTO mapping
+     * Keyset pagination: seeks past the cursor position instead of using an
+     * offset, and fetches one extra row to know whether another page exists
+     * (no COUNT query).
      */
-    private TaskResponse mapToResponse(Task task) {
+    private TaskPageResponse findPage(
+            Specification<Task> filter,
+            Sort sort,
+            String cursor,
+            int limit
+    ) {
 
-        return TaskResponse.builder()
-                .id(task.getId())
-                .taskListId(task.getTaskListId())
-                .name(task.getName())
-                .state(task.getState())
-                .priority(task.getPriority())
-                .effort(task.getEffort())
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        String sortSignature = sortSignature(orders);
+
+        Specification<Task> spec = (root, query, cb) -> null;
+
+        if (filter != null) {
+            spec = spec.and(filter);
+        }
+
+        if (cursor != null && !cursor.isBlank()) {
+            spec = spec.and(TaskSpecification.seekAfter(
+                    orders, CursorCodec.decode(cursor, sortSignature)));
+        }
+
+        List<TaskResponse> rows = taskRepository.findAllProjected(spec, sort, limit + 1);
+
+        return toPage(rows, limit, sortSignature, orders);
+    }
+
+    /**
+     * Keyset pagination over the in-memory filter index (id order only): the
+     * index resolves the filter to the next {@code limit + 1} ids and only those
+     * rows are read. Ids of Tasks deleted behind the index's back are evicted
+     * and replaced. Cursors are interchangeable with {@link #findPage}.
+     */
+    private TaskPageResponse findIndexedPage(
+            List<Priority> priorities,
+            List<Effort> efforts,
+            Sort sort,
+            String cursor,
+            int limit
+    ) {
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        List<Sort.Order> orders = sort.toList();
+        String sortSignature = sortSignature(orders);
+        boolean ascending = orders.get(0).isAscending();
+
+        Long afterId = null;
+
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.valueOf(CursorCodec.decode(cursor, sortSignature).get(0));
+            } catch (NumberFormatException | IndexOutOfBoundsException ex) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        List<TaskResponse> rows = new ArrayList<>();
+
+        while (rows.size() <= limit) {
+
+            List<Long> ids = taskFilterIndexService.findIds(
+                    priorities, efforts, afterId, ascending, limit + 1 - rows.size());
+
+            if (ids.isEmpty()) {
+                break;
+            }
+
+            List<TaskResponse> fetched =
+                    taskRepository.findAllProjected(TaskSpecification.hasIds(ids), sort, 0);
+
+            if (fetched.size() < ids.size()) {
+                Set<Long> found = fetched.stream()
+                        .map(TaskResponse::getId)
+                        .collect(Collectors.toSet());
+                taskFilterIndexService.evict(ids.stream()
+                        .filter(id -> !found.contains(id))
+                        .toList());
+            }
+
+            rows.addAll(fetched);
+            afterId = ids.get(ids.size() - 1);
+        }
+
+        return toPage(rows, limit, sortSignature, orders);
+    }
+
+    /**
+     * Cuts the extra look-ahead row and derives the next cursor from the last item.
+     */
+    private TaskPageResponse toPage(
+            List<TaskResponse> rows,
+            int limit,
+            String sortSignature,
+            List<Sort.Order> orders
+    ) {
+
+        if (rows.size() <= limit) {
+            return TaskPageResponse.builder()
+                    .items(rows)
+                    .build();
+        }
+
+        List<TaskResponse> items = rows.subList(0, limit);
+
+        return TaskPageResponse.builder()
+                .items(items)
+                .nextCursor(CursorCodec.encode(
+                        sortSignature, sortKey(items.get(limit - 1), orders)))
                 .build();
     }
 
-    private Sort buildSort(String sortBy, String sortDirection) {
+    /**
+     * Cursor positioned after the given row, as {@link #toPage} would derive it
+     * (package-private for merging pages of several shards).
+     */
+    String cursorAfter(TaskResponse last, Sort sort) {
+
+        List<Sort.Order> orders = sort.toList();
+
+        return CursorCodec.encode(sortSignature(orders), sortKey(last, orders));
+    }
+
+    private static boolean isIdOrderOnly(Sort sort) {
 
-        Sort.Direction direction =
-                "desc".equalsIgnoreCase(sortDirection)
-                        ? Sort.Direction.DESC
-                        : Sort.Direction.ASC;
+        List<Sort.Order> orders = sort.toList();
+
+        return orders.size() == 1
+                && Task.Fields.ID.equals(orders.get(0).getProperty());
+    }
 
-        if (sortBy == null || sortBy.isBlank()) {
-            return Sort.by(direction, "id"); // default sort
+    private String sortSignature(List<Sort.Order> orders) {
+
+        return orders.stream()
+                .map(order -> order.getProperty() + ":" + order.getDirection())
+                .collect(Collectors.joining(","));
+    }
+
+    private List<String> sortKey(TaskResponse last, List<Sort.Order> orders) {
+
+        BeanWrapperImpl row = new BeanWrapperImpl(last);
+        List<String> values = new ArrayList<>();
+
+        for (Sort.Order order : orders) {
+            Object value = row.getPropertyValue(order.getProperty());
+            values.add(value instanceof Enum<?> e ? e.name() : String.valueOf(value));
         }
 
-        String[] fields = sortBy.split(",");
+        return values;
+    }
+
+    private TaskResponse findResponse(Long taskId) {
+
+        return taskRepository.findProjectedById(taskId)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Task not found with id: " + taskId));
+    }
 
-        List<Sort.Order> orders = new ArrayList<>();
+    /**
+     * If-Match check: a write conditioned on a version fails when the Task has moved on.
+     */
+    static void checkVersion(TaskResponse current, Long expectedVersion) {
 
-        for (String field : fields) {
-            orders.add(new Sort.Order(direction, field.trim()));
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw new PreconditionFailedException(
+                    "Task " + current.getId() + " has been modified (current version "
+                            + current.getVersion() + ")");
         }
+    }
+
+    /**
+     * Entity → DTO mapping
+     * (package-private for the JMH benchmarks)
+     */
+    TaskResponse mapToResponse(Task task) {
+
+        return TaskResponse.builder()
+                .id(task.getId())
+                .taskListId(task.getTaskListId())
+                .name(task.getName())
+                .state(task.getState())
+                .priority(task.getPriority())
+                .effort(task.getEffort())
+                .version(task.getVersion())
+                .build();
+    }
 
-        // Deterministic ordering
-        orders.add(new Sort.Order(direction, "id"));
+    // package-private for the JMH benchmarks
+    Sort buildSort(String sortBy, String sortDirection) {
 
-        return Sort.by(orders);
+        return TaskSortRegistry.resolve(sortBy, sortDirection);
     }
 }
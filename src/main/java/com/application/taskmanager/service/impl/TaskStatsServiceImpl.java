@@ -0,0 +1,278 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.dto.response.TaskStatsResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.exception.ResourceNotFoundException;
+import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.TaskStatsRepository;
+import com.application.taskmanager.repository.projection.TaskGroupCount;
+import com.application.taskmanager.repository.projection.TaskListGroupCount;
+import com.application.taskmanager.repository.specification.TaskSpecification;
+import com.application.taskmanager.service.TaskStatsService;
+import com.application.taskmanager.util.EnumParser;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Task statistics computed by the database.
+ *
+ * <p>
+ * By default every request runs one {@code GROUP BY state, priority, effort} query over
+ * the matching Tasks. With {@code taskmanager.stats.summary.enabled=true} the counts are
+ * read from the {@code task_stats} summary table instead (at most 18 rows per TaskList),
+ * which is rebuilt at startup and maintained by the {@code on*} callbacks in the same
+ * transaction as each Task write.
+ */
+@Service
+public class TaskStatsServiceImpl implements TaskStatsService, SmartInitializingSingleton {
+
+    private final TaskRepository taskRepository;
+    private final TaskListRepository taskListRepository;
+    private final TaskStatsRepository taskStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean summaryEnabled;
+
+    public TaskStatsServiceImpl(
+            TaskRepository taskRepository,
+            TaskListRepository taskListRepository,
+            TaskStatsRepository taskStatsRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskmanager.stats.summary.enabled:false}") boolean summaryEnabled
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskListRepository = taskListRepository;
+        this.taskStatsRepository = taskStatsRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.summaryEnabled = summaryEnabled;
+    }
+
+    /**
+     * Rebuilds the summary before the application starts serving requests.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+
+        if (!summaryEnabled) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            taskStatsRepository.deleteAllInBatch();
+            taskStatsRepository.rebuildAll();
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getStats(String prioritiesCsv, String effortsCsv) {
+
+        List<Priority> priorities =
+                EnumParser.parseCsv(prioritiesCsv, Priority.class);
+
+        List<Effort> efforts =
+                EnumParser.parseCsv(effortsCsv, Effort.class);
+
+        List<TaskGroupCount> groups = summaryEnabled
+                ? filter(taskStatsRepository.findTotals(), priorities, efforts)
+                : taskRepository.countGrouped(TaskSpecification.filterTasks(null, priorities, efforts));
+
+        return toResponse(null, groups);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TaskStatsResponse getStatsByTaskListId(Long taskListId, String prioritiesCsv, String effortsCsv) {
+
+        if (!taskListRepository.existsById(taskListId)) {
+            throw new ResourceNotFoundException(
+                    "TaskList not found with id: " + taskListId);
+        }
+
+        List<Priority> priorities =
+                EnumParser.parseCsv(prioritiesCsv, Priority.class);
+
+        List<Effort> efforts =
+                EnumParser.parseCsv(effortsCsv, Effort.class);
+
+        List<TaskGroupCount> groups = summaryEnabled
+                ? filter(taskStatsRepository.findByTaskList(taskListId), priorities, efforts)
+                : taskRepository.countGrouped(TaskSpecification.filterTasks(taskListId, priorities, efforts));
+
+        return toResponse(taskListId, groups);
+    }
+
+    @Override
+    @Transactional
+    public void onTaskListCreated(Long taskListId) {
+
+        if (summaryEnabled) {
+            taskStatsRepository.createEmpty(taskListId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onTaskListDeleted(Long taskListId) {
+
+        if (summaryEnabled) {
+            taskStatsRepository.deleteByTaskList(taskListId);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onTaskCreated(TaskResponse task) {
+        adjust(task.getTaskListId(), task.getState(), task, 1);
+    }
+
+    /**
+     * Applies one delta per distinct (list, state, priority, effort) of the batch.
+     */
+    @Override
+    @Transactional
+    public void onTasksCreated(List<TaskResponse> tasks) {
+
+        if (!summaryEnabled) {
+            return;
+        }
+
+        Map<List<Object>, Long> deltas = tasks.stream()
+                .collect(Collectors.groupingBy(
+                        task -> List.of(task.getTaskListId(), task.getState(), task.getPriority(), task.getEffort()),
+                        Collectors.counting()));
+
+        deltas.forEach((key, delta) -> taskStatsRepository.adjust(
+                (Long) key.get(0), (TaskState) key.get(1), (Priority) key.get(2), (Effort) key.get(3), delta));
+    }
+
+    @Override
+    @Transactional
+    public void onTaskDeleted(TaskResponse task) {
+        adjust(task.getTaskListId(), task.getState(), task, -1);
+    }
+
+    @Override
+    @Transactional
+    public void onTaskStateChanged(TaskResponse task, TaskState previousState) {
+
+        if (previousState != task.getState()) {
+            adjust(task.getTaskListId(), previousState, task, -1);
+            adjust(task.getTaskListId(), task.getState(), task, 1);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onTaskMoved(TaskResponse task, Long previousTaskListId) {
+
+        if (!previousTaskListId.equals(task.getTaskListId())) {
+            adjust(previousTaskListId, task.getState(), task, -1);
+            adjust(task.getTaskListId(), task.getState(), task, 1);
+        }
+    }
+
+    /**
+     * Two deltas per affected group, however many Tasks the bulk update touched.
+     */
+    @Override
+    @Transactional
+    public void onTasksStateChanged(List<TaskListGroupCount> groups, TaskState state) {
+
+        if (!summaryEnabled) {
+            return;
+        }
+
+        for (TaskListGroupCount group : groups) {
+            if (group.state() != state) {
+                taskStatsRepository.adjust(
+                        group.taskListId(), group.state(), group.priority(), group.effort(), -group.count());
+                taskStatsRepository.adjust(
+                        group.taskListId(), state, group.priority(), group.effort(), group.count());
+            }
+        }
+    }
+
+    @Override
+    @Transactional
+    public void onTasksMoved(List<TaskListGroupCount> groups, Long targetTaskListId) {
+
+        if (!summaryEnabled) {
+            return;
+        }
+
+        for (TaskListGroupCount group : groups) {
+            if (!group.taskListId().equals(targetTaskListId)) {
+                taskStatsRepository.adjust(
+                        group.taskListId(), group.state(), group.priority(), group.effort(), -group.count());
+                taskStatsRepository.adjust(
+                        targetTaskListId, group.state(), group.priority(), group.effort(), group.count());
+            }
+        }
+    }
+
+    private void adjust(Long taskListId, TaskState state, TaskResponse task, long delta) {
+
+        if (summaryEnabled) {
+            taskStatsRepository.adjust(taskListId, state, task.getPriority(), task.getEffort(), delta);
+        }
+    }
+
+    private List<TaskGroupCount> filter(
+            List<TaskGroupCount> groups,
+            List<Priority> priorities,
+            List<Effort> efforts
+    ) {
+
+        return groups.stream()
+                .filter(group -> priorities.isEmpty() || priorities.contains(group.priority()))
+                .filter(group -> efforts.isEmpty() || efforts.contains(group.effort()))
+                .toList();
+    }
+
+    private TaskStatsResponse toResponse(Long taskListId, List<TaskGroupCount> groups) {
+
+        Map<TaskState, Long> byState = zeroed(TaskState.class);
+        Map<Priority, Long> byPriority = zeroed(Priority.class);
+        Map<Effort, Long> byEffort = zeroed(Effort.class);
+        long total = 0;
+
+        for (TaskGroupCount group : groups) {
+            byState.merge(group.state(), group.count(), Long::sum);
+            byPriority.merge(group.priority(), group.count(), Long::sum);
+            byEffort.merge(group.effort(), group.count(), Long::sum);
+            total += group.count();
+        }
+
+        return TaskStatsResponse.builder()
+                .taskListId(taskListId)
+                .total(total)
+                .byState(byState)
+                .byPriority(byPriority)
+                .byEffort(byEffort)
+                .build();
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> zeroed(Class<E> type) {
+
+        Map<E, Long> counts = new EnumMap<>(type);
+
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+
+        return counts;
+    }
+}
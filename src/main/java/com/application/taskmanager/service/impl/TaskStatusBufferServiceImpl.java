@@ -0,0 +1,451 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.exception.ConflictException;
+import com.application.taskmanager.exception.PreconditionFailedException;
+import com.application.taskmanager.exception.ResourceNotFoundException;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.projection.TaskListGroupCount;
+import com.application.taskmanager.repository.specification.TaskSpecification;
+import com.application.taskmanager.service.TaskEventService;
+import com.application.taskmanager.service.TaskStatsService;
+import com.application.taskmanager.service.TaskStatusBufferService;
+import com.application.taskmanager.service.TaskSyncService;
+import com.application.taskmanager.util.TransactionCallbacks;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * In-memory implementation of {@link TaskStatusBufferService}.
+ *
+ * <p>
+ * Enabled with {@code taskmanager.status-buffer.enabled=true}. Pending states are
+ * flushed every {@code taskmanager.status-buffer.flush-interval-ms} (the window of
+ * acknowledged updates lost if the process dies), earlier once
+ * {@code taskmanager.status-buffer.max-pending} Tasks are buffered, and once more on
+ * shutdown after the web server has stopped accepting requests.
+ *
+ * <p>
+ * A flush runs like a bulk status update: per target state, one grouped SELECT (for
+ * the statistics) and one UPDATE over the buffered ids, for up to
+ * {@link #MAX_FLUSH_SIZE} Tasks each. Entries are only dropped once the flush
+ * commits; an entry changed while its flush was running stays buffered and is
+ * re-read from the database on next use. Like the quota counters, the buffer is
+ * local to this instance.
+ */
+@Slf4j
+@Service
+public class TaskStatusBufferServiceImpl implements TaskStatusBufferService, SmartLifecycle {
+
+    private static final int MAX_FLUSH_SIZE = 5000;
+
+    // Stopped after the web server (DEFAULT_PHASE - 2048), so nothing is acknowledged after the final flush
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final TaskRepository taskRepository;
+    private final TaskStatsService taskStatsService;
+    private final TaskEventService taskEventService;
+    private final TaskSyncService taskSyncService;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final long flushIntervalMs;
+    private final int maxPending;
+
+    private final Lock lock = new ReentrantLock();
+    private final Map<Long, Entry> pending = new HashMap<>();
+    private long stamps;
+    private long settled;
+
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public TaskStatusBufferServiceImpl(
+            TaskRepository taskRepository,
+            TaskStatsService taskStatsService,
+            TaskEventService taskEventService,
+            TaskSyncService taskSyncService,
+            PlatformTransactionManager transactionManager,
+            @Value("${taskmanager.status-buffer.enabled:false}") boolean enabled,
+            @Value("${taskmanager.status-buffer.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${taskmanager.status-buffer.max-pending:10000}") int maxPending
+    ) {
+        this.taskRepository = taskRepository;
+        this.taskStatsService = taskStatsService;
+        this.taskEventService = taskEventService;
+        this.taskSyncService = taskSyncService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.flushIntervalMs = flushIntervalMs;
+        this.maxPending = maxPending;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public TaskResponse updateState(Long taskId, TaskState state, Long expectedVersion) {
+
+        TaskResponse updated = withEntry(taskId, true, entry -> {
+
+            TaskResponse current = entry.view();
+
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw new PreconditionFailedException(
+                        "Task " + taskId + " has been modified (current version "
+                                + current.getVersion() + ")");
+            }
+
+            if (entry.state != state) {
+                entry.state = state;
+                entry.stamp = ++stamps;
+            }
+
+            return entry.view();
+        });
+
+        if (running && pendingCount() >= maxPending && flushRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::scheduledFlush);
+        }
+
+        return updated;
+    }
+
+    @Override
+    public Optional<TaskResponse> find(Long taskId) {
+
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(withEntry(taskId, false, Entry::view));
+    }
+
+    @Override
+    public void writePending(Collection<Long> taskIds) {
+
+        if (enabled) {
+            write(snapshot(taskIds));
+        }
+    }
+
+    @Override
+    public void writeAllPending() {
+
+        if (enabled) {
+            write(snapshot(null));
+        }
+    }
+
+    @Override
+    public void flush() {
+
+        if (enabled) {
+            transactionTemplate.executeWithoutResult(status -> writeAllPending());
+        }
+    }
+
+    // ---- Lifecycle ----
+
+    @Override
+    public void start() {
+
+        if (enabled) {
+            scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "task-status-flush");
+                thread.setDaemon(true);
+                return thread;
+            });
+            scheduler.scheduleWithFixedDelay(
+                    this::scheduledFlush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        }
+
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+
+        running = false;
+
+        if (scheduler == null) {
+            return;
+        }
+
+        scheduler.shutdown();
+
+        try {
+            scheduler.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    private void scheduledFlush() {
+
+        flushRequested.set(false);
+
+        try {
+            flush();
+        } catch (RuntimeException ex) {
+            // Entries stay buffered and are retried on the next tick
+            log.warn("Task status flush failed: {}", ex.getMessage());
+        }
+    }
+
+    // ---- Buffer ----
+
+    /**
+     * Runs {@code action} on the entry of a Task under the lock, loading its database
+     * row first when the entry has none. Returns null when {@code create} is false
+     * and the Task has no entry.
+     */
+    private <T> T withEntry(Long taskId, boolean create, Function<Entry, T> action) {
+
+        TaskResponse row = null;
+        long rowSettled = -1;
+
+        while (true) {
+
+            lock.lock();
+            try {
+                Entry entry = pending.get(taskId);
+
+                if (entry == null && !create) {
+                    return null;
+                }
+
+                if (entry != null && entry.base != null) {
+                    return action.apply(entry);
+                }
+
+                // A row read before the last settle may predate a flushed state
+                if (row != null && rowSettled == settled) {
+                    if (entry == null) {
+                        entry = new Entry(row.getState(), 0);
+                        pending.put(taskId, entry);
+                    }
+                    entry.base = row;
+                    return action.apply(entry);
+                }
+
+                rowSettled = settled;
+            } finally {
+                lock.unlock();
+            }
+
+            row = taskRepository.findProjectedById(taskId).orElse(null);
+
+            if (row == null) {
+                discard(taskId);
+                throw new ResourceNotFoundException("Task not found with id: " + taskId);
+            }
+        }
+    }
+
+    private void discard(Long taskId) {
+
+        lock.lock();
+        try {
+            pending.remove(taskId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private int pendingCount() {
+
+        lock.lock();
+        try {
+            return pending.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pending states of the given Tasks (all Tasks when null).
+     */
+    private List<Flushed> snapshot(Collection<Long> taskIds) {
+
+        List<Flushed> flushed = new ArrayList<>();
+
+        lock.lock();
+        try {
+            if (taskIds == null) {
+                pending.forEach((taskId, entry) -> flushed.add(Flushed.of(taskId, entry)));
+            } else {
+                for (Long taskId : taskIds) {
+                    Entry entry = pending.get(taskId);
+                    if (entry != null) {
+                        flushed.add(Flushed.of(taskId, entry));
+                    }
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        return flushed;
+    }
+
+    private void write(List<Flushed> flushed) {
+
+        if (flushed.isEmpty()) {
+            return;
+        }
+
+        Map<TaskState, List<Long>> idsByState = new EnumMap<>(TaskState.class);
+
+        for (Flushed entry : flushed) {
+            if (entry.changed()) {
+                idsByState.computeIfAbsent(entry.state(), state -> new ArrayList<>()).add(entry.taskId());
+            }
+        }
+
+        Long changeSeq = null;
+
+        for (Map.Entry<TaskState, List<Long>> byState : idsByState.entrySet()) {
+
+            TaskState state = byState.getKey();
+            List<Long> ids = byState.getValue();
+
+            for (int from = 0; from < ids.size(); from += MAX_FLUSH_SIZE) {
+
+                List<Long> chunk = ids.subList(from, Math.min(from + MAX_FLUSH_SIZE, ids.size()));
+
+                Specification<Task> spec = TaskSpecification.hasIds(chunk)
+                        .and(TaskSpecification.notInState(state));
+
+                List<TaskListGroupCount> groups = taskRepository.countGroupedByTaskList(spec);
+
+                if (groups.isEmpty()) {
+                    continue;
+                }
+
+                if (changeSeq == null) {
+                    changeSeq = taskSyncService.nextChangeSeq();
+                }
+
+                int affected = taskRepository.bulkUpdateState(spec, state, changeSeq);
+
+                if (groups.stream().mapToLong(TaskListGroupCount::count).sum() != affected) {
+                    throw new ConflictException(
+                            "Tasks changed concurrently while flushing buffered states");
+                }
+
+                taskStatsService.onTasksStateChanged(groups, state);
+                taskEventService.onTasksChanged(groups.stream()
+                        .map(TaskListGroupCount::taskListId)
+                        .toList());
+            }
+        }
+
+        TransactionCallbacks.afterCommit(() -> settle(flushed));
+    }
+
+    /**
+     * Drops the entries written by a committed flush, unless they changed meanwhile:
+     * those keep their pending state and re-read their row on next use.
+     */
+    private void settle(List<Flushed> flushed) {
+
+        lock.lock();
+        try {
+            for (Flushed written : flushed) {
+
+                Entry entry = pending.get(written.taskId());
+
+                if (entry == null) {
+                    continue;
+                }
+
+                if (entry.stamp == written.stamp()) {
+                    pending.remove(written.taskId());
+                } else {
+                    entry.base = null;
+                }
+            }
+            settled++;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Pending state of one Task on top of its last known database row.
+     */
+    private static final class Entry {
+
+        private TaskState state;
+        private long stamp;
+        // Null when the row has to be re-read
+        private TaskResponse base;
+
+        private Entry(TaskState state, long stamp) {
+            this.state = state;
+            this.stamp = stamp;
+        }
+
+        /**
+         * The Task as it will be once flushed: a changed state costs one version.
+         */
+        TaskResponse view() {
+
+            if (state == base.getState()) {
+                return base;
+            }
+
+            return base.toBuilder()
+                    .state(state)
+                    .version(base.getVersion() + 1)
+                    .build();
+        }
+    }
+
+    private record Flushed(Long taskId, TaskState state, long stamp, boolean changed) {
+
+        static Flushed of(Long taskId, Entry entry) {
+
+            boolean changed = entry.base == null || entry.base.getState() != entry.state;
+
+            return new Flushed(taskId, entry.state, entry.stamp, changed);
+        }
+    }
+}
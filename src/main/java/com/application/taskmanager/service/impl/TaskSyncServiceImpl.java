@@ -0,0 +1,222 @@
+package com.application.taskmanager.service.impl;
+
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.dto.response.TaskSyncResponse;
+import com.application.taskmanager.exception.BadRequestException;
+import com.application.taskmanager.exception.ResourceNotFoundException;
+import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.TaskTombstoneRepository;
+import com.application.taskmanager.repository.projection.TaskChange;
+import com.application.taskmanager.repository.projection.TaskTombstoneEntry;
+import com.application.taskmanager.service.TaskSyncService;
+import com.application.taskmanager.util.CursorCodec;
+import com.application.taskmanager.util.TransactionCallbacks;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Sequence-based implementation of {@link TaskSyncService}.
+ *
+ * <p>
+ * Change sequence values are reserved from the {@code task_change_seq} database
+ * sequence in blocks of {@link #CHANGE_SEQ_BLOCK} (one JDBC call per block), so
+ * values never go backwards, not even across restarts.
+ *
+ * <p>
+ * Values are allocated when a transaction starts writing but become visible when
+ * it commits, which may be out of order. A sync therefore only reads up to the
+ * highest value below every still-running allocation; the rest is picked up by the
+ * next sync. The in-flight set is local to this instance, like the quota counters.
+ *
+ * <p>
+ * The watermark holds two (changeSeq, id) positions, one in the tasks and one in
+ * the tombstones, each advanced independently through the index on
+ * {@code (task_list_id, change_seq, id)}.
+ */
+@Service
+@RequiredArgsConstructor
+public class TaskSyncServiceImpl implements TaskSyncService, SmartInitializingSingleton {
+
+    // Must match the INCREMENT BY of task_change_seq
+    static final int CHANGE_SEQ_BLOCK = 1000;
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String WATERMARK_SIGNATURE = "sync";
+
+    private final TaskRepository taskRepository;
+    private final TaskListRepository taskListRepository;
+    private final TaskTombstoneRepository taskTombstoneRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    private final Object monitor = new Object();
+    private final NavigableSet<Long> inFlight = new TreeSet<>();
+    private long next = 1;
+    private long blockEnd = 0;
+
+    /**
+     * Reserves the first block, so watermarks handed out before the first write
+     * already lie beyond every value used before this start.
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+
+        synchronized (monitor) {
+            reserveBlock();
+        }
+    }
+
+    @Override
+    public long nextChangeSeq() {
+
+        long seq;
+
+        synchronized (monitor) {
+            if (next > blockEnd) {
+                reserveBlock();
+            }
+            seq = next++;
+            inFlight.add(seq);
+        }
+
+        TransactionCallbacks.afterCompletion(() -> release(seq));
+
+        return seq;
+    }
+
+    /**
+     * Not read-only on purpose: the ceiling describes commits on the primary, so a
+     * lagging read replica could let the watermark skip changes.
+     */
+    @Override
+    @Transactional
+    public TaskSyncResponse getChanges(Long taskListId, String since, int limit) {
+
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new BadRequestException(
+                    "limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        if (!taskListRepository.existsById(taskListId)) {
+            throw new ResourceNotFoundException("TaskList not found with id: " + taskListId);
+        }
+
+        long ceiling = committedCeiling();
+        Position end = new Position(ceiling, Long.MAX_VALUE);
+
+        Position tasksFrom;
+        Position tombstonesFrom;
+
+        if (since == null || since.isBlank()) {
+            // Full sync: every Task, and no tombstones (the client holds nothing yet)
+            tasksFrom = new Position(0, 0);
+            tombstonesFrom = end;
+        } else {
+            List<String> values = CursorCodec.decode(since, WATERMARK_SIGNATURE);
+            tasksFrom = Position.parse(values, 0);
+            tombstonesFrom = Position.parse(values, 2);
+        }
+
+        List<TaskChange> changes = taskRepository.findChangesAfter(
+                taskListId, tasksFrom.seq(), tasksFrom.id(), ceiling, Limit.of(limit + 1));
+
+        List<TaskTombstoneEntry> tombstones = taskTombstoneRepository.findAfter(
+                taskListId, tombstonesFrom.seq(), tombstonesFrom.id(), ceiling, Limit.of(limit + 1));
+
+        boolean moreTasks = changes.size() > limit;
+        boolean moreTombstones = tombstones.size() > limit;
+
+        if (moreTasks) {
+            changes = changes.subList(0, limit);
+        }
+
+        if (moreTombstones) {
+            tombstones = tombstones.subList(0, limit);
+        }
+
+        Position tasksTo = moreTasks
+                ? new Position(changes.get(limit - 1).changeSeq(), changes.get(limit - 1).id())
+                : Position.max(tasksFrom, end);
+
+        Position tombstonesTo = moreTombstones
+                ? new Position(tombstones.get(limit - 1).changeSeq(), tombstones.get(limit - 1).id())
+                : Position.max(tombstonesFrom, end);
+
+        List<TaskResponse> tasks = changes.stream()
+                .map(TaskChange::toResponse)
+                .toList();
+
+        Set<Long> deletedTaskIds = new LinkedHashSet<>();
+        tombstones.forEach(tombstone -> deletedTaskIds.add(tombstone.taskId()));
+
+        return TaskSyncResponse.builder()
+                .tasks(tasks)
+                .deletedTaskIds(List.copyOf(deletedTaskIds))
+                .watermark(CursorCodec.encode(WATERMARK_SIGNATURE, List.of(
+                        Long.toString(tasksTo.seq()), Long.toString(tasksTo.id()),
+                        Long.toString(tombstonesTo.seq()), Long.toString(tombstonesTo.id()))))
+                .hasMore(moreTasks || moreTombstones)
+                .build();
+    }
+
+    /**
+     * Highest change sequence value below which every allocation has completed.
+     */
+    private long committedCeiling() {
+
+        synchronized (monitor) {
+            return inFlight.isEmpty() ? next - 1 : inFlight.first() - 1;
+        }
+    }
+
+    private void release(long seq) {
+
+        synchronized (monitor) {
+            inFlight.remove(seq);
+        }
+    }
+
+    // Called with the monitor held
+    private void reserveBlock() {
+
+        Long start = jdbcTemplate.queryForObject("SELECT NEXT VALUE FOR task_change_seq", Long.class);
+
+        next = start;
+        blockEnd = start + CHANGE_SEQ_BLOCK - 1;
+    }
+
+    /**
+     * A (changeSeq, id) position in one of the change streams.
+     */
+    private record Position(long seq, long id) {
+
+        static Position parse(List<String> values, int offset) {
+
+            try {
+                return new Position(
+                        Long.parseLong(values.get(offset)),
+                        Long.parseLong(values.get(offset + 1)));
+            } catch (NumberFormatException | IndexOutOfBoundsException ex) {
+                throw new BadRequestException("Invalid cursor");
+            }
+        }
+
+        static Position max(Position a, Position b) {
+
+            if (a.seq() != b.seq()) {
+                return a.seq() > b.seq() ? a : b;
+            }
+            return a.id() >= b.id() ? a : b;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.application.taskmanager.util;
+
+import com.application.taskmanager.exception.BadRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * Encodes and decodes the opaque cursor tokens used for keyset pagination.
+ *
+ * <p>
+ * A cursor carries the sort signature it was produced for and the sort key
+ * values (always ending with {@code id}) of the last row of a page. The
+ * signature lets a cursor be rejected when it is replayed against a
+ * different sort instead of silently returning a wrong page.
+ */
+public final class CursorCodec {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private CursorCodec() {
+        // Prevent instantiation
+    }
+
+    public static String encode(String sortSignature, List<String> values) {
+
+        try {
+            byte[] json = MAPPER.writeValueAsBytes(new Cursor(sortSignature, values));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(json);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Unable to encode cursor", ex);
+        }
+    }
+
+    public static List<String> decode(String cursor, String sortSignature) {
+
+        Cursor decoded;
+
+        try {
+            byte[] json = Base64.getUrlDecoder().decode(cursor);
+            decoded = MAPPER.readValue(new String(json, StandardCharsets.UTF_8), Cursor.class);
+        } catch (IllegalArgumentException | JsonProcessingException ex) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (decoded.sort() == null || decoded.values() == null) {
+            throw new BadRequestException("Invalid cursor");
+        }
+
+        if (!decoded.sort().equals(sortSignature)) {
+            throw new BadRequestException("Cursor does not match the requested sort");
+        }
+
+        return decoded.values();
+    }
+
+    private record Cursor(String sort, List<String> values) {
+    }
+}
@@ -0,0 +1,128 @@
+package com.application.taskmanager.util;
+
+import com.application.taskmanager.exception.BadRequestException;
+import com.application.taskmanager.exception.PreconditionFailedException;
+
+/**
+ * Maps entity versions to HTTP entity tags and back.
+ *
+ * <p>
+ * A version {@code 3} is sent as the strong ETag {@code "3"} in JSON. Every other
+ * representation of that version has its own tag, with a suffix naming it
+ * ({@code "3-cbor"}, {@code "3-gzip"}), so caches never mix them up. {@code If-Match}
+ * accepts the tag of any representation of the current version. It uses strong
+ * comparison, so a weak tag ({@code W/"3"}) or any value that is not a quoted
+ * version can never match and fails the precondition. {@code If-None-Match} uses
+ * weak comparison and also accepts any representation's tag.
+ */
+public final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+        // Prevent instantiation
+    }
+
+    public static String of(Long version) {
+
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * Tag of another representation of the same entity: {@code "3"} with suffix
+     * {@code gzip} becomes {@code "3-gzip"}. Weak tags stay weak.
+     */
+    public static String withSuffix(String etag, String suffix) {
+
+        int end = etag.lastIndexOf('"');
+
+        if (end <= 0) {
+            return etag;
+        }
+
+        return etag.substring(0, end) + "-" + suffix + etag.substring(end);
+    }
+
+    /**
+     * Parses an {@code If-Match} header into the expected version.
+     *
+     * @param ifMatch header value, may be null
+     * @return expected version, or null when the header is absent or {@code *}
+     *         (the write is then unconditional apart from the Task existing)
+     */
+    public static Long parseIfMatch(String ifMatch) {
+
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        String tag = ifMatch.trim();
+
+        if (ANY.equals(tag)) {
+            return null;
+        }
+
+        if (tag.indexOf(',') >= 0) {
+            throw new BadRequestException("If-Match must contain a single entity tag");
+        }
+
+        Long version = versionOf(tag);
+
+        if (version == null) {
+            throw new PreconditionFailedException("If-Match does not match the current entity tag");
+        }
+
+        return version;
+    }
+
+    /**
+     * Whether {@code If-None-Match} names the current version. Comparison is weak,
+     * as for this header: {@code "3"}, {@code W/"3"} and {@code "3-cbor"} all name
+     * version 3.
+     *
+     * @param ifNoneMatch header value, may be null
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, Long version) {
+
+        if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+            return false;
+        }
+
+        for (String value : ifNoneMatch.split(",")) {
+
+            String tag = value.trim();
+
+            if (ANY.equals(tag)) {
+                return true;
+            }
+
+            String strong = tag.startsWith(WEAK_PREFIX) ? tag.substring(WEAK_PREFIX.length()) : tag;
+
+            if (version.equals(versionOf(strong))) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * Version named by a quoted tag, ignoring a representation suffix, or null.
+     */
+    private static Long versionOf(String tag) {
+
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return null;
+        }
+
+        String opaque = tag.substring(1, tag.length() - 1);
+        int suffix = opaque.indexOf('-');
+
+        try {
+            return Long.parseLong(suffix < 0 ? opaque : opaque.substring(0, suffix));
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+}
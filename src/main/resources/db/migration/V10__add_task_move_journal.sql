@@ -0,0 +1,15 @@
+-- Sharding: a task moving to a list on another shard leaves its source shard and
+-- is recorded here in one transaction, then is inserted on the target shard, then
+-- the record is dropped. While recorded, the task is in no list. A record found at
+-- startup is settled by ShardMoveRecovery: dropped if the target shard has the
+-- task, otherwise the task is put back into its source list first.
+CREATE TABLE task_moves (
+    task_id             BIGINT       NOT NULL PRIMARY KEY,
+    task_list_id        BIGINT       NOT NULL,
+    target_task_list_id BIGINT       NOT NULL,
+    name                VARCHAR(255) NOT NULL,
+    state               SMALLINT     NOT NULL,
+    priority            SMALLINT     NOT NULL,
+    effort              SMALLINT     NOT NULL,
+    version             BIGINT       NOT NULL
+);
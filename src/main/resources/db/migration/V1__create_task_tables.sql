@@ -0,0 +1,28 @@
+-- Task lists
+CREATE TABLE task_lists (
+    id   BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name VARCHAR(255) NOT NULL
+);
+
+-- Tasks (ids come from a pooled sequence so inserts can be JDBC-batched;
+-- the increment must match the allocationSize on Task.id)
+CREATE SEQUENCE task_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE tasks (
+    id           BIGINT       NOT NULL PRIMARY KEY,
+    task_list_id BIGINT       NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    state        ENUM('PENDING', 'DONE')        NOT NULL,
+    priority     ENUM('HIGH', 'MEDIUM', 'LOW')  NOT NULL,
+    effort       ENUM('HIGH', 'MEDIUM', 'LOW')  NOT NULL,
+    CONSTRAINT fk_tasks_task_list FOREIGN KEY (task_list_id) REFERENCES task_lists (id)
+);
+
+-- List-scoped filter/sort: WHERE task_list_id = ? [AND priority IN (..) [AND effort IN (..)]] ORDER BY .., id
+CREATE INDEX idx_tasks_list_priority_effort ON tasks (task_list_id, priority, effort, id);
+
+-- Global filter/sort: WHERE priority IN (..) [AND effort IN (..)] ORDER BY .., id
+CREATE INDEX idx_tasks_priority_effort ON tasks (priority, effort, id);
+
+-- State lookups
+CREATE INDEX idx_tasks_state ON tasks (state, id);
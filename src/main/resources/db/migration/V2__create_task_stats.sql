@@ -0,0 +1,12 @@
+-- Optional summary of task counts per (list, state, priority, effort).
+-- Populated at startup and maintained on every task write when
+-- taskmanager.stats.summary.enabled=true; unused otherwise.
+CREATE TABLE task_stats (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_list_id BIGINT NOT NULL,
+    state        ENUM('PENDING', 'DONE')        NOT NULL,
+    priority     ENUM('HIGH', 'MEDIUM', 'LOW')  NOT NULL,
+    effort       ENUM('HIGH', 'MEDIUM', 'LOW')  NOT NULL,
+    task_count   BIGINT NOT NULL,
+    CONSTRAINT uk_task_stats_group UNIQUE (task_list_id, state, priority, effort)
+);
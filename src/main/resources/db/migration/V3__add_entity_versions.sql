@@ -0,0 +1,5 @@
+-- Optimistic locking: every write to a row bumps its version, which the
+-- API exposes as the ETag for conditional requests (If-Match / If-None-Match).
+ALTER TABLE tasks ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE task_lists ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,4 @@
+-- A TaskList being deleted asynchronously is hidden immediately and removed
+-- once a background job has purged its tasks in chunks. Lists still flagged at
+-- startup have their purge resumed.
+ALTER TABLE task_lists ADD COLUMN purging BOOLEAN DEFAULT FALSE NOT NULL;
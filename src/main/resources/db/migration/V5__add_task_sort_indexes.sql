@@ -0,0 +1,6 @@
+-- Every field accepted in sortBy leads an index, so ORDER BY <field>, id can
+-- walk the index instead of sorting the whole table. id, task_list_id,
+-- priority and state are already covered by V1.
+CREATE INDEX idx_tasks_name ON tasks (name, id);
+
+CREATE INDEX idx_tasks_effort ON tasks (effort, id);
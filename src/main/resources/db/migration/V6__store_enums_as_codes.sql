@@ -0,0 +1,74 @@
+-- state, priority and effort are stored as SMALLINT codes (see CodedEnum) instead
+-- of by name. The mapping is explicit and stable, so enum constants can be
+-- reordered or renamed without touching the data:
+--   state:            PENDING = 1, DONE = 2
+--   priority, effort: LOW = 1, MEDIUM = 2, HIGH = 3 (ascending = by importance)
+
+-- Indexes and constraints over the converted columns are rebuilt afterwards.
+-- The foreign key reuses the composite index, so it has to go first.
+ALTER TABLE tasks DROP CONSTRAINT fk_tasks_task_list;
+DROP INDEX idx_tasks_list_priority_effort;
+DROP INDEX idx_tasks_priority_effort;
+DROP INDEX idx_tasks_state;
+DROP INDEX idx_tasks_effort;
+ALTER TABLE task_stats DROP CONSTRAINT uk_task_stats_group;
+
+-- Tasks
+ALTER TABLE tasks ADD COLUMN state_code SMALLINT;
+ALTER TABLE tasks ADD COLUMN priority_code SMALLINT;
+ALTER TABLE tasks ADD COLUMN effort_code SMALLINT;
+
+UPDATE tasks SET
+    state_code    = CASE CAST(state AS VARCHAR) WHEN 'PENDING' THEN 1 WHEN 'DONE' THEN 2 END,
+    priority_code = CASE CAST(priority AS VARCHAR) WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END,
+    effort_code   = CASE CAST(effort AS VARCHAR) WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END;
+
+ALTER TABLE tasks DROP COLUMN state;
+ALTER TABLE tasks DROP COLUMN priority;
+ALTER TABLE tasks DROP COLUMN effort;
+
+ALTER TABLE tasks ALTER COLUMN state_code RENAME TO state;
+ALTER TABLE tasks ALTER COLUMN priority_code RENAME TO priority;
+ALTER TABLE tasks ALTER COLUMN effort_code RENAME TO effort;
+
+ALTER TABLE tasks ALTER COLUMN state SET NOT NULL;
+ALTER TABLE tasks ALTER COLUMN priority SET NOT NULL;
+ALTER TABLE tasks ALTER COLUMN effort SET NOT NULL;
+
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_state CHECK (state IN (1, 2));
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_priority CHECK (priority IN (1, 2, 3));
+ALTER TABLE tasks ADD CONSTRAINT ck_tasks_effort CHECK (effort IN (1, 2, 3));
+
+-- Task statistics summary
+ALTER TABLE task_stats ADD COLUMN state_code SMALLINT;
+ALTER TABLE task_stats ADD COLUMN priority_code SMALLINT;
+ALTER TABLE task_stats ADD COLUMN effort_code SMALLINT;
+
+UPDATE task_stats SET
+    state_code    = CASE CAST(state AS VARCHAR) WHEN 'PENDING' THEN 1 WHEN 'DONE' THEN 2 END,
+    priority_code = CASE CAST(priority AS VARCHAR) WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END,
+    effort_code   = CASE CAST(effort AS VARCHAR) WHEN 'LOW' THEN 1 WHEN 'MEDIUM' THEN 2 WHEN 'HIGH' THEN 3 END;
+
+ALTER TABLE task_stats DROP COLUMN state;
+ALTER TABLE task_stats DROP COLUMN priority;
+ALTER TABLE task_stats DROP COLUMN effort;
+
+ALTER TABLE task_stats ALTER COLUMN state_code RENAME TO state;
+ALTER TABLE task_stats ALTER COLUMN priority_code RENAME TO priority;
+ALTER TABLE task_stats ALTER COLUMN effort_code RENAME TO effort;
+
+ALTER TABLE task_stats ALTER COLUMN state SET NOT NULL;
+ALTER TABLE task_stats ALTER COLUMN priority SET NOT NULL;
+ALTER TABLE task_stats ALTER COLUMN effort SET NOT NULL;
+
+ALTER TABLE task_stats ADD CONSTRAINT uk_task_stats_group
+    UNIQUE (task_list_id, state, priority, effort);
+
+-- Same indexes as before, now over 2-byte keys
+CREATE INDEX idx_tasks_list_priority_effort ON tasks (task_list_id, priority, effort, id);
+CREATE INDEX idx_tasks_priority_effort ON tasks (priority, effort, id);
+CREATE INDEX idx_tasks_state ON tasks (state, id);
+CREATE INDEX idx_tasks_effort ON tasks (effort, id);
+
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_task_list
+    FOREIGN KEY (task_list_id) REFERENCES task_lists (id);
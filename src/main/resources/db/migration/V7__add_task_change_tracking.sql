@@ -0,0 +1,22 @@
+-- Delta sync (GET /api/task-lists/{id}/sync): every task write stamps the row with
+-- the next value of a change sequence, and a task leaving a list (delete or move)
+-- leaves a tombstone behind. A client asks for changes after its watermark and
+-- reads only the rows stamped since.
+
+-- Values are reserved in blocks; the increment must match
+-- TaskSyncServiceImpl.CHANGE_SEQ_BLOCK
+CREATE SEQUENCE task_change_seq START WITH 1 INCREMENT BY 1000;
+
+-- Existing rows predate every watermark handed out
+ALTER TABLE tasks ADD COLUMN change_seq BIGINT DEFAULT 0 NOT NULL;
+
+CREATE INDEX idx_tasks_list_change ON tasks (task_list_id, change_seq, id);
+
+CREATE TABLE task_tombstones (
+    id           BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    task_id      BIGINT NOT NULL,
+    task_list_id BIGINT NOT NULL,
+    change_seq   BIGINT NOT NULL
+);
+
+CREATE INDEX idx_task_tombstones_list_change ON task_tombstones (task_list_id, change_seq, id);
@@ -0,0 +1,7 @@
+-- Deleting a TaskList row removes its tasks too. The service still deletes the
+-- tasks itself first (it needs the row count for the quota), so this only
+-- guarantees that no path deleting a list can fail on the foreign key.
+ALTER TABLE tasks DROP CONSTRAINT fk_tasks_task_list;
+
+ALTER TABLE tasks ADD CONSTRAINT fk_tasks_task_list
+    FOREIGN KEY (task_list_id) REFERENCES task_lists (id) ON DELETE CASCADE;
@@ -0,0 +1,6 @@
+-- V5 assumed the V1 composite indexes serve ORDER BY task_list_id, id and
+-- ORDER BY priority, id. They do not: effort sits between the sort column and
+-- id, so both sorts still needed a full sort. Give them exact indexes too.
+CREATE INDEX idx_tasks_list_id ON tasks (task_list_id, id);
+
+CREATE INDEX idx_tasks_priority ON tasks (priority, id);
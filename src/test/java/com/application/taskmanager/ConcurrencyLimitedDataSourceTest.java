@@ -0,0 +1,47 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.config.ConcurrencyLimitedDataSource;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Test covering:
+ * - Connections beyond the limit wait and then time out
+ * - Closing a connection returns its permit exactly once
+ */
+class ConcurrencyLimitedDataSourceTest {
+
+    @Test
+    void limitsConnectionsInFlight() throws Exception {
+
+        DataSource target = mock(DataSource.class);
+        Connection physical = mock(Connection.class);
+        when(target.getConnection()).thenReturn(physical);
+
+        ConcurrencyLimitedDataSource dataSource =
+                new ConcurrencyLimitedDataSource(target, 1, 50);
+
+        Connection first = dataSource.getConnection();
+        assertThat(dataSource.getInFlight()).isEqualTo(1);
+
+        assertThatThrownBy(dataSource::getConnection)
+                .isInstanceOf(SQLTransientConnectionException.class);
+
+        first.close();
+        first.close();
+        verify(physical).close();
+        assertThat(dataSource.getInFlight()).isZero();
+
+        dataSource.getConnection().close();
+        assertThat(dataSource.getInFlight()).isZero();
+    }
+}
@@ -0,0 +1,139 @@
+package com.application.taskmanager;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration Test covering:
+ * - ETag on GET and PATCH
+ * - If-None-Match → 304
+ * - If-Match on PATCH / DELETE → 412 when stale
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class ConditionalRequestIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void conditionalRequestsFollowTaskVersion() throws Exception {
+
+        Long listId = createTaskList("Versioned");
+        Long otherListId = createTaskList("Versioned Target");
+
+        String taskResponse = mockMvc.perform(
+                        post("/api/task-lists/" + listId + "/tasks")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        {
+                                          "name": "Versioned Task",
+                                          "priority": "HIGH",
+                                          "effort": "LOW"
+                                        }
+                                        """))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.version").value(0))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number taskIdNumber = JsonPath.read(taskResponse, "$.id");
+        Long taskId = taskIdNumber.longValue();
+
+        // ==============================
+        // GET returns ETag, If-None-Match → 304
+        // ==============================
+
+        mockMvc.perform(get("/api/tasks/" + taskId))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        // ==============================
+        // PATCH with matching If-Match bumps the version
+        // ==============================
+
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/status")
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"state\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""))
+                .andExpect(jsonPath("$.version").value(1));
+
+        // Stale If-None-Match now returns the full body
+        mockMvc.perform(get("/api/tasks/" + taskId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0\""))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.state").value("DONE"));
+
+        // ==============================
+        // Stale If-Match → 412, nothing changes
+        // ==============================
+
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/move")
+                        .header(HttpHeaders.IF_MATCH, "\"0\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetTaskListId\":" + otherListId + "}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.error").exists());
+
+        mockMvc.perform(delete("/api/tasks/" + taskId)
+                        .header(HttpHeaders.IF_MATCH, "W/\"1\""))
+                .andExpect(status().isPreconditionFailed());
+
+        mockMvc.perform(get("/api/tasks/" + taskId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskListId").value(listId))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        // ==============================
+        // Matching If-Match on move and delete
+        // ==============================
+
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/move")
+                        .header(HttpHeaders.IF_MATCH, "\"1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetTaskListId\":" + otherListId + "}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""));
+
+        mockMvc.perform(delete("/api/tasks/" + taskId)
+                        .header(HttpHeaders.IF_MATCH, "\"2\""))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/api/tasks/" + taskId))
+                .andExpect(status().isNotFound());
+    }
+
+    private Long createTaskList(String name) throws Exception {
+
+        String response = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number id = JsonPath.read(response, "$.id");
+        return id.longValue();
+    }
+}
@@ -0,0 +1,100 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.entity.Task;
+import com.application.taskmanager.entity.converter.EffortConverter;
+import com.application.taskmanager.entity.converter.PriorityConverter;
+import com.application.taskmanager.entity.converter.TaskStateConverter;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.repository.TaskRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Storage Test covering:
+ * - Enum converters round-trip every constant and reject unknown codes
+ * - Codes of ordered enums follow their meaning
+ * - Enum columns are SMALLINT and hold the codes
+ */
+@SpringBootTest
+class EnumStorageTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void convertersRoundTrip() {
+
+        PriorityConverter priorities = new PriorityConverter();
+        EffortConverter efforts = new EffortConverter();
+        TaskStateConverter states = new TaskStateConverter();
+
+        for (Priority priority : Priority.values()) {
+            assertThat(priorities.convertToEntityAttribute(
+                    priorities.convertToDatabaseColumn(priority))).isEqualTo(priority);
+        }
+        for (Effort effort : Effort.values()) {
+            assertThat(efforts.convertToEntityAttribute(
+                    efforts.convertToDatabaseColumn(effort))).isEqualTo(effort);
+        }
+        for (TaskState state : TaskState.values()) {
+            assertThat(states.convertToEntityAttribute(
+                    states.convertToDatabaseColumn(state))).isEqualTo(state);
+        }
+
+        assertThatThrownBy(() -> priorities.convertToEntityAttribute((short) 9))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void codesFollowMeaning() {
+
+        assertThat(Priority.LOW.getCode()).isLessThan(Priority.MEDIUM.getCode());
+        assertThat(Priority.MEDIUM.getCode()).isLessThan(Priority.HIGH.getCode());
+        assertThat(Effort.LOW.getCode()).isLessThan(Effort.MEDIUM.getCode());
+        assertThat(Effort.MEDIUM.getCode()).isLessThan(Effort.HIGH.getCode());
+    }
+
+    @Test
+    void columnsStoreSmallintCodes() {
+
+        jdbcTemplate.update("INSERT INTO task_lists (name) VALUES ('Codes')");
+        Long listId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM task_lists", Long.class);
+
+        Task task = taskRepository.save(Task.builder()
+                .taskListId(listId)
+                .name("Coded")
+                .state(TaskState.DONE)
+                .priority(Priority.HIGH)
+                .effort(Effort.LOW)
+                .changeSeq(0L)
+                .build());
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT state, priority, effort FROM tasks WHERE id = ?", task.getId());
+
+        // H2's JDBC driver returns SMALLINT values as Integer
+        assertThat(((Number) row.get("STATE")).intValue()).isEqualTo(2);
+        assertThat(((Number) row.get("PRIORITY")).intValue()).isEqualTo(3);
+        assertThat(((Number) row.get("EFFORT")).intValue()).isEqualTo(1);
+
+        assertThat(jdbcTemplate.queryForList("""
+                SELECT DATA_TYPE FROM INFORMATION_SCHEMA.COLUMNS
+                WHERE TABLE_NAME = 'TASKS' AND COLUMN_NAME IN ('STATE', 'PRIORITY', 'EFFORT')
+                """, String.class))
+                .containsOnly("SMALLINT");
+
+        taskRepository.deleteById(task.getId());
+    }
+}
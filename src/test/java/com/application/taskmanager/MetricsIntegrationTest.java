@@ -0,0 +1,47 @@
+package com.application.taskmanager;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration Test covering:
+ * - Prometheus scrape endpoint
+ * - Error counters from GlobalExceptionHandler
+ * - SQL statements per request
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void prometheusExposesApplicationMetrics() throws Exception {
+
+        mockMvc.perform(get("/api/tasks/999999"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/tasks"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "taskmanager_errors_total{exception=\"ResourceNotFoundException\",status=\"404\"")))
+                .andExpect(content().string(containsString(
+                        "taskmanager_sql_statements_per_request_count{method=\"GET\",uri=\"/api/tasks\"")))
+                .andExpect(content().string(containsString("hikaricp_connections_active")))
+                .andExpect(content().string(containsString("spring_data_repository_invocations_seconds")));
+    }
+}
@@ -0,0 +1,176 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.config.ReadYourWritesFilter;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Read Replica Routing Test covering:
+ * - Writes go to the primary, read-only requests to the replica
+ * - A client that has just written reads from the primary for the sticky window
+ * - The writer is sticky while its write is still running; a failed write is not
+ * - Work handed to another thread keeps the request's routing
+ *
+ * The replica is a separate in-memory H2 database with the same schema that never
+ * receives the primary's data, so which database served a read is visible.
+ */
+@SpringBootTest(properties = {
+        "taskmanager.read-replicas.enabled=true",
+        "taskmanager.read-replicas.urls=jdbc:h2:mem:replica-routing-test;DB_CLOSE_DELAY=-1",
+        "taskmanager.read-replicas.migrate=true",
+        "taskmanager.read-replicas.sticky-ms=500"
+})
+@AutoConfigureMockMvc
+class ReadReplicaRoutingTest {
+
+    private static final String CLIENT_ID = "X-Client-Id";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void readsAreRoutedToReplicaUnlessClientJustWrote() throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .header(CLIENT_ID, "writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Routed\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        // The writer reads its own write from the primary
+        assertThat(taskListIds("writer")).contains(listId);
+
+        // Other clients read the replica, which has not received it
+        assertThat(taskListIds("reader")).doesNotContain(listId);
+
+        // Writes from any client go to the primary
+        mockMvc.perform(post("/api/task-lists/" + listId + "/tasks")
+                        .header(CLIENT_ID, "reader")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "name": "Routed Task",
+                                  "priority": "HIGH",
+                                  "effort": "LOW"
+                                }
+                                """))
+                .andExpect(status().isCreated());
+
+        assertThat(taskListIds("reader")).contains(listId);
+
+        // After the sticky window, the writer is back on the replica
+        Thread.sleep(800);
+
+        assertThat(taskListIds("writer")).doesNotContain(listId);
+    }
+
+    @Test
+    void failedWriteDoesNotMakeTheClientSticky() throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .header(CLIENT_ID, "other-writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Not Replicated\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+
+        mockMvc.perform(post("/api/task-lists/" + Long.MAX_VALUE + "/tasks")
+                        .header(CLIENT_ID, "failed-writer")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "name": "Orphan Task",
+                                  "priority": "HIGH",
+                                  "effort": "LOW"
+                                }
+                                """))
+                .andExpect(status().isNotFound());
+
+        assertThat(taskListIds("failed-writer")).doesNotContain(listIdNumber.longValue());
+    }
+
+    @Test
+    void writerIsStickyBeforeItsWriteReturns() throws Exception {
+
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5), 10);
+        AtomicBoolean readDuringWrite = new AtomicBoolean();
+
+        // The client reads again while its write is still in the filter chain
+        filter.doFilter(request("POST", "early-writer"), new MockHttpServletResponse(), (req, res) ->
+                filter.doFilter(request("GET", "early-writer"), new MockHttpServletResponse(), (r, s) ->
+                        readDuringWrite.set(ReadYourWritesFilter.isPrimaryRequired())));
+
+        assertThat(readDuringWrite).isTrue();
+
+        MockHttpServletResponse failed = new MockHttpServletResponse();
+        filter.doFilter(request("POST", "failing-writer"), failed, (req, res) -> failed.setStatus(409));
+
+        AtomicBoolean readAfterFailure = new AtomicBoolean(true);
+        filter.doFilter(request("GET", "failing-writer"), new MockHttpServletResponse(), (req, res) ->
+                readAfterFailure.set(ReadYourWritesFilter.isPrimaryRequired()));
+
+        assertThat(readAfterFailure).isFalse();
+    }
+
+    @Test
+    void propagatedTaskKeepsTheRequestRouting() throws Exception {
+
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5), 10);
+        AtomicBoolean asyncRead = new AtomicBoolean();
+
+        filter.doFilter(request("POST", "async-writer"), new MockHttpServletResponse(), (req, res) ->
+                CompletableFuture.runAsync(ReadYourWritesFilter.propagate(
+                        () -> asyncRead.set(ReadYourWritesFilter.isPrimaryRequired()))).join());
+
+        assertThat(asyncRead).isTrue();
+    }
+
+    private static MockHttpServletRequest request(String method, String clientId) {
+
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/task-lists");
+        request.addHeader(CLIENT_ID, clientId);
+
+        return request;
+    }
+
+    private List<Long> taskListIds(String clientId) throws Exception {
+
+        String response = mockMvc.perform(get("/api/task-lists")
+                        .header(CLIENT_ID, clientId))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        List<Number> ids = JsonPath.read(response, "$[*].id");
+
+        return ids.stream().map(Number::longValue).toList();
+    }
+}
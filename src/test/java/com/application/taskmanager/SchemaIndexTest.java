@@ -0,0 +1,89 @@
+package com.application.taskmanager;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Schema Test covering:
+ * - Filter queries use the Flyway-created indexes instead of a table scan
+ * - Sortable fields are served by an index
+ */
+@SpringBootTest
+class SchemaIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void listScopedFilterUsesCompositeIndex() {
+
+        String plan = explain("""
+                SELECT * FROM tasks
+                WHERE task_list_id = 1 AND priority IN (3, 1) AND effort = 1
+                ORDER BY id
+                """);
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_LIST_PRIORITY_EFFORT");
+    }
+
+    @Test
+    void globalFilterUsesPriorityEffortIndex() {
+
+        String plan = explain("""
+                SELECT * FROM tasks
+                WHERE priority = 3 AND effort IN (1, 2)
+                """);
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_PRIORITY_EFFORT");
+    }
+
+    @Test
+    void stateFilterUsesStateIndex() {
+
+        String plan = explain("SELECT id FROM tasks WHERE state = 2");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_STATE");
+    }
+
+    @Test
+    void nameSortUsesNameIndex() {
+
+        String plan = explain("SELECT id FROM tasks ORDER BY name, id");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_NAME");
+    }
+
+    @Test
+    void taskListSortUsesListIdIndex() {
+
+        String plan = explain("SELECT id FROM tasks ORDER BY task_list_id, id");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_LIST_ID");
+    }
+
+    @Test
+    void prioritySortUsesPriorityIndex() {
+
+        String plan = explain("SELECT id FROM tasks ORDER BY priority, id");
+
+        // Not IDX_TASKS_PRIORITY_EFFORT, which cannot return this order
+        assertThat(plan).containsPattern("(?i)IDX_TASKS_PRIORITY\\b");
+    }
+
+    @Test
+    void effortSortUsesEffortIndex() {
+
+        String plan = explain("SELECT id FROM tasks ORDER BY effort, id");
+
+        assertThat(plan).containsIgnoringCase("IDX_TASKS_EFFORT");
+    }
+
+    private String explain(String sql) {
+
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
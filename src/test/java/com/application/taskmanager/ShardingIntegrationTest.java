@@ -0,0 +1,327 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.config.ShardMoveRecovery;
+import com.application.taskmanager.config.ShardRouter;
+import com.application.taskmanager.config.ShardRoutingDataSource;
+import com.application.taskmanager.dto.request.BulkMoveTaskRequest;
+import com.application.taskmanager.dto.request.CreateTaskListRequest;
+import com.application.taskmanager.dto.request.CreateTaskRequest;
+import com.application.taskmanager.dto.request.MoveTaskRequest;
+import com.application.taskmanager.dto.response.TaskPageResponse;
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.exception.PreconditionFailedException;
+import com.application.taskmanager.exception.ResourceNotFoundException;
+import com.application.taskmanager.service.TaskListService;
+import com.application.taskmanager.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Sharding Test covering:
+ * - A TaskList's Tasks are stored on its home shard only
+ * - Global listings and pages merge every shard in the requested order
+ * - Moves across shards keep the Task id, bump the version and leave a tombstone
+ * - A stale If-Match leaves a cross-shard move without effect
+ * - Bulk moves across shards are all or nothing
+ * - Moves cut short are settled at startup: completed or put back
+ *
+ * Each shard is a separate in-memory H2 database, so where a row lives is visible.
+ */
+@SpringBootTest(properties = {
+        "taskmanager.sharding.enabled=true",
+        "taskmanager.sharding.urls="
+                + "jdbc:h2:mem:sharding-test-0;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:sharding-test-1;DB_CLOSE_DELAY=-1,"
+                + "jdbc:h2:mem:sharding-test-2;DB_CLOSE_DELAY=-1"
+})
+class ShardingIntegrationTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskListService taskListService;
+
+    @Autowired
+    private ShardRouter shardRouter;
+
+    @Autowired
+    private ShardRoutingDataSource shardRoutingDataSource;
+
+    @Test
+    void tasksLiveOnTheirListsHomeShard() {
+
+        List<Long> listIds = createTaskListsOnDistinctShards("Placement");
+
+        for (Long listId : listIds) {
+
+            Long taskId = createTask(listId, "Placed", Priority.LOW).getId();
+            int home = shardRouter.shardOf(listId);
+
+            for (int shard = 0; shard < shardRouter.shardCount(); shard++) {
+                assertThat(countTasks(shard, "id = " + taskId)).isEqualTo(shard == home ? 1 : 0);
+            }
+
+            assertThat(taskService.getTaskById(taskId).getTaskListId()).isEqualTo(listId);
+            assertThat(taskService.getTasksByTaskListId(listId, null, null, null, null))
+                    .extracting(TaskResponse::getId)
+                    .containsExactly(taskId);
+        }
+    }
+
+    @Test
+    void globalListingsMergeShardsInOrder() {
+
+        List<Long> listIds = createTaskListsOnDistinctShards("Merged");
+        List<Long> created = new ArrayList<>();
+        Priority[] priorities = Priority.values();
+
+        for (int i = 0; i < 6; i++) {
+            Long listId = listIds.get(i % listIds.size());
+            created.add(createTask(listId, "Merged " + i, priorities[i % priorities.length]).getId());
+        }
+
+        List<TaskResponse> byPriority = taskService.getAllTasks(null, null, "priority", "desc")
+                .stream()
+                .filter(task -> created.contains(task.getId()))
+                .toList();
+
+        assertThat(byPriority).hasSize(created.size());
+        assertThat(byPriority).isSortedAccordingTo(
+                Comparator.comparing((TaskResponse task) -> task.getPriority().getCode())
+                        .reversed()
+                        .thenComparing(TaskResponse::getId, Comparator.reverseOrder()));
+
+        // Walk all pages by name: every Task exactly once, in name order
+        List<TaskResponse> walked = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            TaskPageResponse page = taskService.getAllTasksPage(null, null, "name", "asc", cursor, 2);
+            assertThat(page.getItems()).hasSizeLessThanOrEqualTo(2);
+            walked.addAll(page.getItems());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(walked).extracting(TaskResponse::getId).doesNotHaveDuplicates();
+        assertThat(walked).extracting(TaskResponse::getId).containsAll(created);
+        assertThat(walked).extracting(TaskResponse::getName).isSorted();
+    }
+
+    @Test
+    void moveAcrossShards() {
+
+        List<Long> listIds = createTaskListsOnDistinctShards("Move");
+        Long sourceListId = listIds.get(0);
+        Long targetListId = listIds.get(1);
+        int sourceShard = shardRouter.shardOf(sourceListId);
+        int targetShard = shardRouter.shardOf(targetListId);
+
+        TaskResponse created = createTask(sourceListId, "Travelling", Priority.HIGH);
+        Long taskId = created.getId();
+
+        MoveTaskRequest move = new MoveTaskRequest();
+        move.setTargetTaskListId(targetListId);
+
+        TaskResponse moved = taskService.moveTask(taskId, move, created.getVersion());
+
+        assertThat(moved.getId()).isEqualTo(taskId);
+        assertThat(moved.getTaskListId()).isEqualTo(targetListId);
+        assertThat(moved.getVersion()).isEqualTo(created.getVersion() + 1);
+
+        assertThat(countTasks(sourceShard, "id = " + taskId)).isZero();
+        assertThat(countTasks(targetShard, "id = " + taskId + " AND task_list_id = " + targetListId))
+                .isEqualTo(1);
+        assertThat(jdbc(sourceShard).queryForObject(
+                "SELECT COUNT(*) FROM task_tombstones WHERE task_id = ? AND task_list_id = ?",
+                Long.class, taskId, sourceListId)).isEqualTo(1);
+
+        assertThat(taskService.getTaskById(taskId)).usingRecursiveComparison().isEqualTo(moved);
+        assertThat(taskService.getTasksByTaskListId(sourceListId, null, null, null, null)).isEmpty();
+
+        // Stale If-Match: nothing is copied back
+        MoveTaskRequest back = new MoveTaskRequest();
+        back.setTargetTaskListId(sourceListId);
+
+        assertThatThrownBy(() -> taskService.moveTask(taskId, back, created.getVersion()))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        assertThat(countTasks(sourceShard, "id = " + taskId)).isZero();
+        assertThat(countTasks(targetShard, "id = " + taskId)).isEqualTo(1);
+    }
+
+    @Test
+    void bulkMoveAcrossShardsIsAllOrNothing() {
+
+        List<Long> listIds = createTaskListsOnDistinctShards("Bulk");
+        Long sourceListId = listIds.get(0);
+        Long targetListId = listIds.get(1);
+        int sourceShard = shardRouter.shardOf(sourceListId);
+        int targetShard = shardRouter.shardOf(targetListId);
+        Long localListId = createTaskListOnShard("Bulk local", targetShard);
+
+        List<Long> taskIds = List.of(
+                createTask(sourceListId, "Bulk 1", Priority.LOW).getId(),
+                createTask(sourceListId, "Bulk 2", Priority.LOW).getId(),
+                createTask(localListId, "Bulk 3", Priority.LOW).getId());
+
+        BulkMoveTaskRequest request = new BulkMoveTaskRequest();
+        request.setIds(taskIds);
+        request.setTargetTaskListId(targetListId);
+
+        assertThat(taskService.moveTasks(request).getAffected()).isEqualTo(3);
+
+        assertThat(countTasks(sourceShard, "id IN (" + taskIds.get(0) + ", " + taskIds.get(1) + ")"))
+                .isZero();
+        assertThat(taskService.getTasksByTaskListId(targetListId, null, null, null, null))
+                .extracting(TaskResponse::getId)
+                .containsExactlyInAnyOrderElementsOf(taskIds);
+        assertThat(countMoveRecords(sourceShard)).isZero();
+
+        // The target list disappears from its shard: the Tasks taken out go back
+        List<Long> failing = List.of(
+                createTask(sourceListId, "Bulk 4", Priority.LOW).getId(),
+                createTask(localListId, "Bulk 5", Priority.LOW).getId());
+        Long emptyListId = createTaskListOnShard("Bulk gone", targetShard);
+        jdbc(targetShard).update("DELETE FROM task_lists WHERE id = ?", emptyListId);
+
+        BulkMoveTaskRequest doomed = new BulkMoveTaskRequest();
+        doomed.setIds(failing);
+        doomed.setTargetTaskListId(emptyListId);
+
+        assertThatThrownBy(() -> taskService.moveTasks(doomed))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        assertThat(taskService.getTaskById(failing.get(0)).getTaskListId()).isEqualTo(sourceListId);
+        assertThat(taskService.getTaskById(failing.get(1)).getTaskListId()).isEqualTo(localListId);
+        assertThat(countMoveRecords(sourceShard)).isZero();
+    }
+
+    @Test
+    void unfinishedMovesAreSettledAtStartup() {
+
+        List<Long> listIds = createTaskListsOnDistinctShards("Crash");
+        Long sourceListId = listIds.get(0);
+        Long targetListId = listIds.get(1);
+        int sourceShard = shardRouter.shardOf(sourceListId);
+        int targetShard = shardRouter.shardOf(targetListId);
+
+        TaskResponse stranded = createTask(sourceListId, "Stranded", Priority.MEDIUM);
+        TaskResponse arrived = createTask(sourceListId, "Arrived", Priority.MEDIUM);
+
+        // Crash after the Tasks left the source shard, one of them already inserted on the target
+        for (TaskResponse task : List.of(stranded, arrived)) {
+            assertThat(jdbc(sourceShard).update("INSERT INTO task_moves "
+                            + "(task_id, task_list_id, target_task_list_id, name, state, priority, effort, version) "
+                            + "SELECT id, task_list_id, ?, name, state, priority, effort, version "
+                            + "FROM tasks WHERE id = ?",
+                    targetListId, task.getId())).isEqualTo(1);
+            assertThat(jdbc(sourceShard).update("DELETE FROM tasks WHERE id = ?", task.getId()))
+                    .isEqualTo(1);
+        }
+
+        Map<String, Object> journaled = jdbc(sourceShard).queryForMap(
+                "SELECT name, state, priority, effort, version FROM task_moves WHERE task_id = ?",
+                arrived.getId());
+
+        assertThat(jdbc(targetShard).update("INSERT INTO tasks "
+                        + "(id, task_list_id, name, state, priority, effort, version, change_seq) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)",
+                arrived.getId(), targetListId, journaled.get("NAME"), journaled.get("STATE"),
+                journaled.get("PRIORITY"), journaled.get("EFFORT"),
+                ((Number) journaled.get("VERSION")).longValue() + 1)).isEqualTo(1);
+
+        ShardMoveRecovery.settle(shardRoutingDataSource, shardRouter);
+
+        assertThat(countMoveRecords(sourceShard)).isZero();
+        assertThat(taskService.getTaskById(stranded.getId()))
+                .usingRecursiveComparison()
+                .isEqualTo(stranded);
+        assertThat(countTasks(sourceShard, "id = " + arrived.getId())).isZero();
+        assertThat(taskService.getTaskById(arrived.getId()).getTaskListId()).isEqualTo(targetListId);
+    }
+
+    /**
+     * Creates TaskLists until two of them have different home shards.
+     */
+    private List<Long> createTaskListsOnDistinctShards(String name) {
+
+        List<Long> listIds = new ArrayList<>();
+
+        for (int i = 0; i < 50; i++) {
+
+            Long listId = createTaskList(name + " " + i);
+
+            if (listIds.isEmpty()
+                    || shardRouter.shardOf(listIds.get(0)) != shardRouter.shardOf(listId)) {
+                listIds.add(listId);
+            }
+
+            if (listIds.size() == 2) {
+                return listIds;
+            }
+        }
+
+        throw new AssertionError("TaskLists were not spread over the shards");
+    }
+
+    private Long createTaskListOnShard(String name, int shard) {
+
+        for (int i = 0; i < 50; i++) {
+
+            Long listId = createTaskList(name + " " + i);
+
+            if (shardRouter.shardOf(listId) == shard) {
+                return listId;
+            }
+        }
+
+        throw new AssertionError("No TaskList landed on shard " + shard);
+    }
+
+    private long countMoveRecords(int shard) {
+
+        return jdbc(shard).queryForObject("SELECT COUNT(*) FROM task_moves", Long.class);
+    }
+
+    private long countTasks(int shard, String condition) {
+
+        return jdbc(shard).queryForObject(
+                "SELECT COUNT(*) FROM tasks WHERE " + condition, Long.class);
+    }
+
+    private JdbcTemplate jdbc(int shard) {
+
+        return new JdbcTemplate(shardRoutingDataSource.getShard(shard));
+    }
+
+    private TaskResponse createTask(Long taskListId, String name, Priority priority) {
+
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setName(name);
+        request.setPriority(priority);
+        request.setEffort(Effort.LOW);
+
+        return taskService.createTask(taskListId, request);
+    }
+
+    private Long createTaskList(String name) {
+
+        CreateTaskListRequest request = new CreateTaskListRequest();
+        request.setName(name);
+
+        return taskListService.createTaskList(request).getId();
+    }
+}
@@ -0,0 +1,250 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.service.impl.TaskEventServiceImpl;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration Test covering:
+ * - Task create / status change / move / delete are pushed to list subscribers
+ * - A moved Task is announced on both lists
+ * - Reconnecting with Last-Event-ID replays missed events
+ * - Unknown resume positions get a RESYNC event
+ * - Unknown TaskList is rejected
+ * - The stream (status and headers) starts before the first event
+ * - Stopping the service (shutdown) completes open streams
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TaskEventIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TaskEventServiceImpl taskEventService;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    private final List<EventStream> streams = new ArrayList<>();
+
+    @AfterEach
+    void closeStreams() {
+        streams.forEach(EventStream::close);
+    }
+
+    @Test
+    void pushesTaskChanges() throws Exception {
+
+        Long listId = createTaskList("Board");
+        Long otherListId = createTaskList("Other board");
+
+        EventStream events = subscribe(listId, null);
+        EventStream otherEvents = subscribe(otherListId, null);
+
+        Long taskId = createTask(listId, "Live");
+
+        assertThat(events.next()).contains("event:CREATED", "\"taskId\":" + taskId);
+
+        send("PATCH", "/api/tasks/" + taskId + "/status", "{\"state\":\"DONE\"}");
+
+        assertThat(events.next()).contains("event:STATUS_CHANGED", "\"state\":\"DONE\"");
+
+        send("PATCH", "/api/tasks/" + taskId + "/move", "{\"targetTaskListId\":" + otherListId + "}");
+
+        assertThat(events.next()).contains("event:MOVED", "\"previousTaskListId\":" + listId);
+        assertThat(otherEvents.next()).contains("event:MOVED", "\"taskListId\":" + otherListId);
+
+        send("DELETE", "/api/tasks/" + taskId, null);
+
+        assertThat(otherEvents.next()).contains("event:DELETED", "\"taskId\":" + taskId);
+    }
+
+    @Test
+    void resumesAfterLastEventId() throws Exception {
+
+        Long listId = createTaskList("Resume");
+
+        EventStream events = subscribe(listId, null);
+        Long firstTaskId = createTask(listId, "Seen");
+        String seen = events.next();
+        events.close();
+
+        String lastEventId = seen.lines()
+                .filter(line -> line.startsWith("id:"))
+                .findFirst()
+                .orElseThrow()
+                .substring(3);
+
+        // Missed while disconnected
+        Long secondTaskId = createTask(listId, "Missed");
+        send("DELETE", "/api/tasks/" + firstTaskId, null);
+
+        EventStream resumed = subscribe(listId, lastEventId);
+
+        assertThat(resumed.next()).contains("event:CREATED", "\"taskId\":" + secondTaskId);
+        assertThat(resumed.next()).contains("event:DELETED", "\"taskId\":" + firstTaskId);
+
+        EventStream lost = subscribe(listId, "999999999");
+
+        assertThat(lost.next()).contains("event:RESYNC");
+    }
+
+    @Test
+    void unknownTaskListIsNotFound() throws Exception {
+
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(uri("/api/task-lists/999999/events")).build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isEqualTo(404);
+    }
+
+    @Test
+    void stopCompletesOpenStreams() throws Exception {
+
+        EventStream events = subscribe(createTaskList("Shutdown"), null);
+
+        taskEventService.stop();
+        try {
+            events.awaitEnd();
+        } finally {
+            taskEventService.start();
+        }
+    }
+
+    private EventStream subscribe(Long taskListId, String lastEventId) throws Exception {
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri("/api/task-lists/" + taskListId + "/events"))
+                .header("Accept", "text/event-stream");
+
+        if (lastEventId != null) {
+            request.header("Last-Event-ID", lastEventId);
+        }
+
+        // Completes with the response headers; bounded so a stream that never starts fails
+        HttpResponse<Stream<String>> response = client
+                .sendAsync(request.build(), HttpResponse.BodyHandlers.ofLines())
+                .get(5, TimeUnit.SECONDS);
+
+        assertThat(response.statusCode()).isEqualTo(200);
+
+        EventStream stream = new EventStream(response.body());
+        streams.add(stream);
+
+        return stream;
+    }
+
+    private Long createTaskList(String name) throws Exception {
+
+        Number id = JsonPath.read(
+                send("POST", "/api/task-lists", "{\"name\":\"" + name + "\"}"), "$.id");
+
+        return id.longValue();
+    }
+
+    private Long createTask(Long taskListId, String name) throws Exception {
+
+        Number id = JsonPath.read(send("POST", "/api/task-lists/" + taskListId + "/tasks", """
+                {
+                  "name": "%s",
+                  "priority": "HIGH",
+                  "effort": "LOW"
+                }
+                """.formatted(name)), "$.id");
+
+        return id.longValue();
+    }
+
+    private String send(String method, String path, String json) throws Exception {
+
+        HttpRequest request = HttpRequest.newBuilder(uri(path))
+                .header("Content-Type", "application/json")
+                .method(method, json == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(json))
+                .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertThat(response.statusCode()).isLessThan(300);
+
+        return response.body();
+    }
+
+    private URI uri(String path) {
+        return URI.create("http://localhost:" + port + path);
+    }
+
+    /**
+     * Collects SSE events (blocks of lines up to a blank line) on a background thread.
+     */
+    private static final class EventStream implements AutoCloseable {
+
+        private final Stream<String> lines;
+        private final BlockingQueue<String> events = new LinkedBlockingQueue<>();
+        private final CountDownLatch ended = new CountDownLatch(1);
+
+        private EventStream(Stream<String> lines) {
+
+            this.lines = lines;
+
+            Thread reader = new Thread(() -> {
+                StringBuilder event = new StringBuilder();
+                try {
+                    lines.forEach(line -> {
+                        if (line.isEmpty()) {
+                            if (!event.isEmpty()) {
+                                events.add(event.toString());
+                                event.setLength(0);
+                            }
+                        } else if (!line.startsWith(":")) {
+                            // Comment lines are not part of any event
+                            event.append(line).append('\n');
+                        }
+                    });
+                } catch (RuntimeException ex) {
+                    // Stream closed
+                } finally {
+                    ended.countDown();
+                }
+            });
+            reader.setDaemon(true);
+            reader.start();
+        }
+
+        String next() throws InterruptedException {
+
+            String event = events.poll(5, TimeUnit.SECONDS);
+            assertThat(event).as("event within 5s").isNotNull();
+
+            return event;
+        }
+
+        void awaitEnd() throws InterruptedException {
+
+            assertThat(ended.await(5, TimeUnit.SECONDS)).as("stream ended within 5s").isTrue();
+        }
+
+        @Override
+        public void close() {
+            lines.close();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.service.TaskFilterIndexService;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration Test covering:
+ * - Keyset pages served from the in-memory filter index match the database listing
+ * - Descending id order
+ * - Deleted Tasks disappear (eagerly for single deletes, lazily for list deletes)
+ */
+@SpringBootTest(properties = "taskmanager.filter-index.enabled=true")
+@AutoConfigureMockMvc
+class TaskFilterIndexIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskFilterIndexService taskFilterIndexService;
+
+    @Test
+    void indexedPagesMatchDatabaseListing() throws Exception {
+
+        assertThat(taskFilterIndexService.isAvailable()).isTrue();
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Indexed\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        mockMvc.perform(post("/api/task-lists/" + listId + "/tasks:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                [
+                                  { "name": "I1", "priority": "HIGH",   "effort": "LOW" },
+                                  { "name": "I2", "priority": "LOW",    "effort": "LOW" },
+                                  { "name": "I3", "priority": "MEDIUM", "effort": "LOW" },
+                                  { "name": "I4", "priority": "HIGH",   "effort": "HIGH" },
+                                  { "name": "I5", "priority": "MEDIUM", "effort": "LOW" },
+                                  { "name": "I6", "priority": "HIGH",   "effort": "LOW" },
+                                  { "name": "I7", "priority": "HIGH",   "effort": "MEDIUM" }
+                                ]
+                                """))
+                .andExpect(status().isOk());
+
+        List<Long> expected = ids(mockMvc.perform(get("/api/tasks")
+                        .param("priorities", "HIGH,MEDIUM")
+                        .param("efforts", "LOW"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), "$[*].id");
+
+        assertThat(expected).hasSize(4);
+
+        // ==============================
+        // Ascending and descending pages
+        // ==============================
+
+        assertThat(pageThrough("asc")).isEqualTo(expected);
+        assertThat(pageThrough("desc")).isEqualTo(expected.reversed());
+
+        // ==============================
+        // Single delete
+        // ==============================
+
+        mockMvc.perform(delete("/api/tasks/" + expected.get(1)))
+                .andExpect(status().isNoContent());
+
+        List<Long> remaining = new ArrayList<>(expected);
+        remaining.remove(1);
+
+        assertThat(pageThrough("asc")).isEqualTo(remaining);
+
+        // ==============================
+        // TaskList delete (stale ids are skipped and evicted)
+        // ==============================
+
+        mockMvc.perform(delete("/api/task-lists/" + listId))
+                .andExpect(status().isNoContent());
+
+        assertThat(pageThrough("asc")).isEmpty();
+    }
+
+    private List<Long> pageThrough(String direction) throws Exception {
+
+        List<Long> collected = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            MockHttpServletRequestBuilder request = get("/api/tasks")
+                    .param("priorities", "HIGH,MEDIUM")
+                    .param("efforts", "LOW")
+                    .param("sortDirection", direction)
+                    .param("limit", "2");
+
+            if (cursor != null) {
+                request.param("cursor", cursor);
+            }
+
+            String page = mockMvc.perform(request)
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            collected.addAll(ids(page, "$.items[*].id"));
+            // nextCursor is omitted on the last page
+            cursor = page.contains("\"nextCursor\"")
+                    ? JsonPath.read(page, "$.nextCursor")
+                    : null;
+
+        } while (cursor != null);
+
+        return collected;
+    }
+
+    private static List<Long> ids(String json, String path) {
+
+        List<Number> ids = JsonPath.read(json, path);
+
+        return ids.stream()
+                .map(Number::longValue)
+                .toList();
+    }
+}
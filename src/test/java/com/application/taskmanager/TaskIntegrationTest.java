@@ -1,14 +1,22 @@
 package com.application.taskmanager;
 
+import com.application.taskmanager.config.CacheConfig;
+import com.application.taskmanager.service.TaskListService;
 import com.jayway.jsonpath.JsonPath;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -20,6 +28,11 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * - Move Task
  * - Filter & Sort
  * - Delete Task
+ * - Keyset Pagination
+ * - Sort Registry
+ * - NDJSON Export
+ * - Batch Create
+ * - TaskList Lookup Cache
  */
 @SpringBootTest
 @AutoConfigureMockMvc
@@ -28,6 +41,12 @@ class TaskIntegrationTest {
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private TaskListService taskListService;
+
     @Test
     void fullFlowTest() throws Exception {
 
@@ -138,4 +157,292 @@ class TaskIntegrationTest {
         mockMvc.perform(delete("/api/tasks/" + taskId))
                 .andExpect(status().isNoContent());
     }
-}
\ No newline at end of file
+
+    @Test
+    void keysetPaginationTest() throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Paging\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        for (String priority : new String[]{"LOW", "HIGH", "MEDIUM"}) {
+            mockMvc.perform(
+                            post("/api/task-lists/" + listId + "/tasks")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                              "name": "Paged %s",
+                                              "priority": "%s",
+                                              "effort": "LOW"
+                                            }
+                                            """.formatted(priority, priority)))
+                    .andExpect(status().isCreated());
+        }
+
+        // ==============================
+        // First page
+        // ==============================
+
+        String firstPage = mockMvc.perform(
+                        get("/api/task-lists/" + listId + "/tasks")
+                                .param("sortBy", "name")
+                                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].name").value("Paged HIGH"))
+                .andExpect(jsonPath("$.items[1].name").value("Paged LOW"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        // ==============================
+        // Last page (no further cursor)
+        // ==============================
+
+        mockMvc.perform(
+                        get("/api/task-lists/" + listId + "/tasks")
+                                .param("sortBy", "name")
+                                .param("limit", "2")
+                                .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].name").value("Paged MEDIUM"))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+
+        // ==============================
+        // Cursor replayed against another sort
+        // ==============================
+
+        mockMvc.perform(
+                        get("/api/task-lists/" + listId + "/tasks")
+                                .param("sortBy", "priority")
+                                .param("limit", "2")
+                                .param("cursor", nextCursor))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void sortRegistryTest() throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Sorting\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        for (String priority : new String[]{"MEDIUM", "LOW", "HIGH"}) {
+            mockMvc.perform(
+                            post("/api/task-lists/" + listId + "/tasks")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                              "name": "Sorted %s",
+                                              "priority": "%s",
+                                              "effort": "LOW"
+                                            }
+                                            """.formatted(priority, priority)))
+                    .andExpect(status().isCreated());
+        }
+
+        // ==============================
+        // Enums sort by meaning, not by name
+        // ==============================
+
+        mockMvc.perform(
+                        get("/api/task-lists/" + listId + "/tasks")
+                                .param("sortBy", "priority"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].priority").value("LOW"))
+                .andExpect(jsonPath("$[1].priority").value("MEDIUM"))
+                .andExpect(jsonPath("$[2].priority").value("HIGH"));
+
+        String firstPage = mockMvc.perform(
+                        get("/api/task-lists/" + listId + "/tasks")
+                                .param("sortBy", "priority")
+                                .param("sortDirection", "desc")
+                                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].priority").value("HIGH"))
+                .andExpect(jsonPath("$.items[1].priority").value("MEDIUM"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        String nextCursor = JsonPath.read(firstPage, "$.nextCursor");
+
+        mockMvc.perform(
+                        get("/api/task-lists/" + listId + "/tasks")
+                                .param("sortBy", "priority")
+                                .param("sortDirection", "desc")
+                                .param("limit", "2")
+                                .param("cursor", nextCursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].priority").value("LOW"));
+
+        // ==============================
+        // Unknown and repeated fields are rejected up front
+        // ==============================
+
+        mockMvc.perform(
+                        get("/api/tasks")
+                                .param("sortBy", "priority,bogus"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value(containsString("Unsupported sort field")));
+
+        mockMvc.perform(
+                        get("/api/tasks")
+                                .param("sortBy", "version"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(
+                        get("/api/tasks")
+                                .param("sortBy", "name,name"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void ndjsonExportTest() throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Export\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        for (String priority : new String[]{"HIGH", "LOW"}) {
+            mockMvc.perform(
+                            post("/api/task-lists/" + listId + "/tasks")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                              "name": "Exported %s",
+                                              "priority": "%s",
+                                              "effort": "MEDIUM"
+                                            }
+                                            """.formatted(priority, priority)))
+                    .andExpect(status().isCreated());
+        }
+
+        // ==============================
+        // Filtered export
+        // ==============================
+
+        mockMvc.perform(
+                        get("/api/tasks/export")
+                                .param("format", "ndjson")
+                                .param("priorities", "HIGH")
+                                .param("efforts", "MEDIUM"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith("application/x-ndjson"))
+                .andExpect(content().string(containsString("\"name\":\"Exported HIGH\"")))
+                .andExpect(content().string(not(containsString("Exported LOW"))));
+
+        // ==============================
+        // Unsupported format
+        // ==============================
+
+        mockMvc.perform(
+                        get("/api/tasks/export")
+                                .param("format", "csv"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void batchCreateTest() throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Batch\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        mockMvc.perform(
+                        post("/api/task-lists/" + listId + "/tasks:batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("""
+                                        [
+                                          { "name": "Batch1", "priority": "HIGH", "effort": "LOW" },
+                                          { "name": "", "priority": "LOW", "effort": "LOW" },
+                                          { "name": "Batch3", "priority": "MEDIUM", "effort": "HIGH" }
+                                        ]
+                                        """))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].task.name").value("Batch1"))
+                .andExpect(jsonPath("$.results[0].task.state").value("PENDING"))
+                .andExpect(jsonPath("$.results[1].index").value(1))
+                .andExpect(jsonPath("$.results[1].error").value("name: Task name must not be blank"))
+                .andExpect(jsonPath("$.results[2].task.name").value("Batch3"));
+
+        mockMvc.perform(
+                        post("/api/task-lists/999999/tasks:batch")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("[{ \"name\": \"X\", \"priority\": \"LOW\", \"effort\": \"LOW\" }]"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void taskListLookupCacheTest() throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Cached\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        Cache cache = cacheManager.getCache(CacheConfig.TASK_LIST_EXISTS);
+        assertThat(cache).isNotNull();
+        assertThat(cache.get(listId)).isNull();
+
+        // ==============================
+        // Lookup populates the cache
+        // ==============================
+
+        mockMvc.perform(get("/api/task-lists/" + listId + "/tasks"))
+                .andExpect(status().isOk());
+
+        assertThat(cache.get(listId, Boolean.class)).isTrue();
+
+        // ==============================
+        // Delete evicts it
+        // ==============================
+
+        taskListService.deleteTaskList(listId);
+
+        assertThat(cache.get(listId)).isNull();
+
+        mockMvc.perform(get("/api/task-lists/" + listId + "/tasks"))
+                .andExpect(status().isNotFound());
+    }
+}
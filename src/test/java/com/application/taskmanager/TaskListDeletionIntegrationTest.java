@@ -0,0 +1,130 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.repository.specification.TaskSpecification;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration Test covering:
+ * - TaskList delete removes its tasks in the same transaction
+ * - The foreign key cascades, so deleting a list row never fails on its tasks
+ * - Asynchronous purge hides the list at once and deletes its tasks in chunks
+ */
+@SpringBootTest(properties = "taskmanager.purge.chunk-size=2")
+@AutoConfigureMockMvc
+class TaskListDeletionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Autowired
+    private TaskListRepository taskListRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void deleteCascadesToTasks() throws Exception {
+
+        Long listId = createTaskListWithTasks("Cascade", 3);
+
+        mockMvc.perform(delete("/api/task-lists/" + listId))
+                .andExpect(status().isNoContent());
+
+        assertThat(taskRepository.count(TaskSpecification.hasTaskListId(listId))).isZero();
+        assertThat(taskListRepository.findById(listId)).isEmpty();
+
+        mockMvc.perform(delete("/api/task-lists/" + listId))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    void foreignKeyCascadesToTasks() throws Exception {
+
+        Long listId = createTaskListWithTasks("Schema cascade", 2);
+
+        assertThat(jdbcTemplate.update("DELETE FROM task_lists WHERE id = ?", listId)).isEqualTo(1);
+
+        assertThat(taskRepository.count(TaskSpecification.hasTaskListId(listId))).isZero();
+    }
+
+    @Test
+    void asyncPurgeDeletesInChunks() throws Exception {
+
+        Long listId = createTaskListWithTasks("Purge", 5);
+
+        mockMvc.perform(delete("/api/task-lists/" + listId).param("async", "true"))
+                .andExpect(status().isAccepted());
+
+        // Hidden immediately
+        mockMvc.perform(get("/api/task-lists/" + listId + "/tasks"))
+                .andExpect(status().isNotFound());
+
+        mockMvc.perform(get("/api/task-lists"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].id", not(hasItem(listId.intValue()))));
+
+        mockMvc.perform(delete("/api/task-lists/" + listId).param("async", "true"))
+                .andExpect(status().isNotFound());
+
+        // Removed once the background purge finishes
+        long deadline = System.currentTimeMillis() + 10_000;
+
+        while (taskListRepository.findById(listId).isPresent()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+
+        assertThat(taskListRepository.findById(listId)).isEmpty();
+        assertThat(taskRepository.count(TaskSpecification.hasTaskListId(listId))).isZero();
+    }
+
+    private Long createTaskListWithTasks(String name, int tasks) throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        StringBuilder batch = new StringBuilder("[");
+
+        for (int i = 0; i < tasks; i++) {
+            batch.append(i == 0 ? "" : ",")
+                    .append("{\"name\":\"")
+                    .append(name).append(' ').append(i)
+                    .append("\",\"priority\":\"LOW\",\"effort\":\"LOW\"}");
+        }
+
+        mockMvc.perform(post("/api/task-lists/" + listId + "/tasks:batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(batch.append("]").toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(tasks));
+
+        return listId;
+    }
+}
@@ -0,0 +1,120 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.config.ShardRouter;
+import com.application.taskmanager.exception.BadRequestException;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.service.impl.TaskQuotaServiceImpl;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit Test covering:
+ * - Concurrent reservations never overshoot the global limit
+ * - Per-list limit
+ * - Release and transfer outside a transaction
+ * - Bulk transfer respects the target list limit as a whole
+ */
+class TaskQuotaServiceTest {
+
+    @Test
+    void concurrentReservationsStopAtGlobalLimit() throws Exception {
+
+        TaskQuotaServiceImpl quota = newQuota(50, 0);
+
+        int attempts = 200;
+        AtomicInteger granted = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(16);
+
+        for (int i = 0; i < attempts; i++) {
+            long listId = i % 4;
+            pool.submit(() -> {
+                start.await();
+                try {
+                    quota.reserve(listId);
+                    granted.incrementAndGet();
+                } catch (BadRequestException ignored) {
+                    // limit reached
+                }
+                return null;
+            });
+        }
+
+        start.countDown();
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(granted.get()).isEqualTo(50);
+    }
+
+    @Test
+    void perListLimitReleaseAndTransfer() {
+
+        TaskQuotaServiceImpl quota = newQuota(0, 2);
+
+        quota.reserve(1L);
+        quota.reserve(1L);
+
+        assertThatThrownBy(() -> quota.reserve(1L))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Maximum task limit (2) reached for TaskList id: 1");
+
+        quota.transfer(1L, 2L);
+        quota.reserve(1L);
+
+        quota.release(2L, 1);
+        quota.reserve(2L);
+        quota.reserve(2L);
+
+        assertThatThrownBy(() -> quota.transfer(1L, 2L))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void bulkTransferIsAllOrNothing() {
+
+        TaskQuotaServiceImpl quota = newQuota(0, 3);
+
+        quota.reserve(1L);
+        quota.reserve(1L);
+        quota.reserve(1L);
+        quota.reserve(2L);
+
+        assertThatThrownBy(() -> quota.transfer(1L, 2L, 3))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("Maximum task limit (3) reached for TaskList id: 2");
+
+        // Nothing was taken from the target list by the failed transfer
+        quota.transfer(1L, 2L, 2);
+
+        assertThatThrownBy(() -> quota.reserve(2L))
+                .isInstanceOf(BadRequestException.class);
+
+        quota.reserve(1L);
+        quota.reserve(1L);
+    }
+
+    private TaskQuotaServiceImpl newQuota(long maxTasks, long maxTasksPerList) {
+
+        TaskRepository taskRepository = mock(TaskRepository.class);
+        when(taskRepository.countTasksByTaskList()).thenReturn(List.of());
+
+        TaskQuotaServiceImpl quota =
+                new TaskQuotaServiceImpl(
+                        taskRepository, new ShardRouter(false, List.of()), maxTasks, maxTasksPerList);
+        quota.seed();
+
+        return quota;
+    }
+}
@@ -0,0 +1,177 @@
+package com.application.taskmanager;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration Test covering:
+ * - TaskList statistics (live GROUP BY)
+ * - Filtered statistics
+ * - Global statistics
+ * - Bulk status change and bulk move keep statistics exact
+ *
+ * Runs against live GROUP BY queries; {@link TaskStatsSummaryIntegrationTest}
+ * repeats it against the summary table.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskStatsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void statsTest() throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Stats\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listIdNumber = JsonPath.read(listResponse, "$.id");
+        Long listId = listIdNumber.longValue();
+
+        String taskResponse = null;
+
+        for (String priority : new String[]{"HIGH", "HIGH", "LOW"}) {
+            taskResponse = mockMvc.perform(
+                            post("/api/task-lists/" + listId + "/tasks")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {
+                                              "name": "Stats %s",
+                                              "priority": "%s",
+                                              "effort": "MEDIUM"
+                                            }
+                                            """.formatted(priority, priority)))
+                    .andExpect(status().isCreated())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+        }
+
+        Number taskIdNumber = JsonPath.read(taskResponse, "$.id");
+
+        mockMvc.perform(
+                        patch("/api/tasks/" + taskIdNumber.longValue() + "/status")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content("{\"state\": \"DONE\"}"))
+                .andExpect(status().isOk());
+
+        // ==============================
+        // TaskList statistics
+        // ==============================
+
+        mockMvc.perform(get("/api/task-lists/" + listId + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskListId").value(listId))
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byState.PENDING").value(2))
+                .andExpect(jsonPath("$.byState.DONE").value(1))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(2))
+                .andExpect(jsonPath("$.byPriority.MEDIUM").value(0))
+                .andExpect(jsonPath("$.byPriority.LOW").value(1))
+                .andExpect(jsonPath("$.byEffort.MEDIUM").value(3));
+
+        // ==============================
+        // Filtered statistics
+        // ==============================
+
+        mockMvc.perform(get("/api/task-lists/" + listId + "/stats")
+                        .param("priorities", "LOW"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byState.DONE").value(1));
+
+        // ==============================
+        // Global statistics / unknown list
+        // ==============================
+
+        mockMvc.perform(get("/api/tasks/stats").param("efforts", "MEDIUM"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.taskListId").doesNotExist())
+                .andExpect(jsonPath("$.byEffort.HIGH").value(0));
+
+        mockMvc.perform(get("/api/task-lists/999999/stats"))
+                .andExpect(status().isNotFound());
+
+        // ==============================
+        // Bulk status change
+        // PATCH /api/tasks/status
+        // ==============================
+
+        mockMvc.perform(patch("/api/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"taskListId\": " + listId + ", \"state\": \"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        mockMvc.perform(patch("/api/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"taskListId\": " + listId + ", \"state\": \"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(0));
+
+        mockMvc.perform(get("/api/task-lists/" + listId + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.byState.PENDING").value(0))
+                .andExpect(jsonPath("$.byState.DONE").value(3));
+
+        // ==============================
+        // Bulk move
+        // PATCH /api/tasks/move
+        // ==============================
+
+        String sprintResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"Stats Sprint\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number sprintIdNumber = JsonPath.read(sprintResponse, "$.id");
+        Long sprintId = sprintIdNumber.longValue();
+
+        mockMvc.perform(patch("/api/tasks/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "taskListId": %d,
+                                  "priorities": ["HIGH"],
+                                  "targetTaskListId": %d
+                                }
+                                """.formatted(listId, sprintId)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        mockMvc.perform(get("/api/task-lists/" + listId + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(1))
+                .andExpect(jsonPath("$.byPriority.LOW").value(1));
+
+        mockMvc.perform(get("/api/task-lists/" + sprintId + "/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.byState.DONE").value(2))
+                .andExpect(jsonPath("$.byPriority.HIGH").value(2));
+
+        // A bulk operation without ids or filters is rejected
+        mockMvc.perform(patch("/api/tasks/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"state\": \"DONE\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,13 @@
+package com.application.taskmanager;
+
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+
+/**
+ * Runs {@link TaskStatsIntegrationTest} with statistics served from the
+ * incrementally maintained summary table.
+ */
+@SpringBootTest(properties = "taskmanager.stats.summary.enabled=true")
+@AutoConfigureMockMvc
+class TaskStatsSummaryIntegrationTest extends TaskStatsIntegrationTest {
+}
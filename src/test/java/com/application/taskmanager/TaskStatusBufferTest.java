@@ -0,0 +1,172 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.dto.request.CreateTaskListRequest;
+import com.application.taskmanager.dto.request.CreateTaskRequest;
+import com.application.taskmanager.dto.request.MoveTaskRequest;
+import com.application.taskmanager.dto.request.UpdateTaskStatusRequest;
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.exception.PreconditionFailedException;
+import com.application.taskmanager.metrics.SqlStatementCounter;
+import com.application.taskmanager.repository.TaskRepository;
+import com.application.taskmanager.service.TaskListService;
+import com.application.taskmanager.service.TaskService;
+import com.application.taskmanager.service.TaskStatusBufferService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Status Buffer Test covering:
+ * - Status toggles are acknowledged without SQL and coalesced into one UPDATE
+ * - Reads by id and versions reflect the buffered state before the flush
+ * - A Task toggled back to its stored state is not written at all
+ * - Moves write the pending state first
+ * - If-Match is checked against the buffered version
+ */
+@SpringBootTest(properties = {
+        "taskmanager.status-buffer.enabled=true",
+        // Flushed explicitly by the test
+        "taskmanager.status-buffer.flush-interval-ms=3600000"
+})
+class TaskStatusBufferTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskListService taskListService;
+
+    @Autowired
+    private TaskStatusBufferService taskStatusBufferService;
+
+    @Autowired
+    private TaskRepository taskRepository;
+
+    @Test
+    void togglesAreCoalescedUntilFlush() {
+
+        Long listId = createTaskList("Buffered");
+        TaskResponse created = createTask(listId, "Toggled");
+        Long taskId = created.getId();
+
+        // First update reads the row once; further toggles are served from memory
+        taskService.updateTaskStatus(taskId, state(TaskState.DONE), null);
+
+        SqlStatementCounter.reset();
+        taskService.updateTaskStatus(taskId, state(TaskState.PENDING), null);
+        TaskResponse acknowledged = taskService.updateTaskStatus(taskId, state(TaskState.DONE), null);
+
+        assertThat(SqlStatementCounter.current()).isZero();
+        assertThat(acknowledged.getState()).isEqualTo(TaskState.DONE);
+        assertThat(acknowledged.getVersion()).isEqualTo(created.getVersion() + 1);
+
+        assertThat(taskService.getTaskById(taskId)).usingRecursiveComparison().isEqualTo(acknowledged);
+        assertThat(stored(taskId).getState()).isEqualTo(TaskState.PENDING);
+
+        // Flush: grouped SELECT + UPDATE
+        SqlStatementCounter.reset();
+        taskStatusBufferService.flush();
+
+        assertThat(SqlStatementCounter.current()).isEqualTo(2);
+        assertThat(stored(taskId)).usingRecursiveComparison().isEqualTo(acknowledged);
+        assertThat(taskStatusBufferService.find(taskId)).isEmpty();
+    }
+
+    @Test
+    void toggleBackIsNotWritten() {
+
+        Long listId = createTaskList("Round trip");
+        TaskResponse created = createTask(listId, "Round trip");
+        Long taskId = created.getId();
+
+        // Start from an empty buffer
+        taskStatusBufferService.flush();
+
+        taskService.updateTaskStatus(taskId, state(TaskState.DONE), null);
+        TaskResponse back = taskService.updateTaskStatus(taskId, state(TaskState.PENDING), null);
+
+        assertThat(back).usingRecursiveComparison().isEqualTo(created);
+
+        SqlStatementCounter.reset();
+        taskStatusBufferService.flush();
+
+        assertThat(SqlStatementCounter.current()).isZero();
+        assertThat(stored(taskId)).usingRecursiveComparison().isEqualTo(created);
+    }
+
+    @Test
+    void moveWritesPendingStateFirst() {
+
+        Long sourceListId = createTaskList("Buffered source");
+        Long targetListId = createTaskList("Buffered target");
+        Long taskId = createTask(sourceListId, "Moved").getId();
+
+        taskService.updateTaskStatus(taskId, state(TaskState.DONE), null);
+
+        MoveTaskRequest move = new MoveTaskRequest();
+        move.setTargetTaskListId(targetListId);
+
+        TaskResponse moved = taskService.moveTask(taskId, move, null);
+
+        assertThat(moved.getState()).isEqualTo(TaskState.DONE);
+        assertThat(stored(taskId)).usingRecursiveComparison().isEqualTo(moved);
+        assertThat(taskService.getTaskById(taskId)).usingRecursiveComparison().isEqualTo(moved);
+    }
+
+    @Test
+    void ifMatchUsesBufferedVersion() {
+
+        Long listId = createTaskList("Buffered If-Match");
+        TaskResponse created = createTask(listId, "Conditional");
+        Long taskId = created.getId();
+
+        TaskResponse done = taskService.updateTaskStatus(
+                taskId, state(TaskState.DONE), created.getVersion());
+
+        assertThatThrownBy(() -> taskService.updateTaskStatus(
+                taskId, state(TaskState.PENDING), created.getVersion()))
+                .isInstanceOf(PreconditionFailedException.class);
+
+        TaskResponse pending = taskService.updateTaskStatus(
+                taskId, state(TaskState.PENDING), done.getVersion());
+
+        assertThat(pending.getState()).isEqualTo(TaskState.PENDING);
+    }
+
+    private TaskResponse stored(Long taskId) {
+
+        return taskRepository.findProjectedById(taskId).orElseThrow();
+    }
+
+    private static UpdateTaskStatusRequest state(TaskState state) {
+
+        UpdateTaskStatusRequest request = new UpdateTaskStatusRequest();
+        request.setState(state);
+
+        return request;
+    }
+
+    private TaskResponse createTask(Long taskListId, String name) {
+
+        CreateTaskRequest request = new CreateTaskRequest();
+        request.setName(name);
+        request.setPriority(Priority.HIGH);
+        request.setEffort(Effort.LOW);
+
+        return taskService.createTask(taskListId, request);
+    }
+
+    private Long createTaskList(String name) {
+
+        CreateTaskListRequest request = new CreateTaskListRequest();
+        request.setName(name);
+
+        return taskListService.createTaskList(request).getId();
+    }
+}
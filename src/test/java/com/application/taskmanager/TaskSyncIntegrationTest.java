@@ -0,0 +1,202 @@
+package com.application.taskmanager;
+
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration Test covering:
+ * - Full sync returns every Task of a list
+ * - Delta sync returns only changed Tasks and ids of deleted / moved-out Tasks
+ * - Moved Tasks appear in the target list's delta
+ * - Paging with hasMore
+ * - Invalid watermark, limit and unknown TaskList are rejected
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskSyncIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void deltaSyncTest() throws Exception {
+
+        Long listId = createTaskList("Sync");
+        Long otherListId = createTaskList("Sync target");
+
+        Long kept = createTask(listId, "Kept");
+        Long done = createTask(listId, "Done");
+        Long moved = createTask(listId, "Moved");
+        Long deleted = createTask(listId, "Deleted");
+
+        String full = sync(listId, null, 100);
+
+        assertThat(taskIds(full)).containsExactly(kept, done, moved, deleted);
+        assertThat(deletedIds(full)).isEmpty();
+        assertThat((Boolean) JsonPath.read(full, "$.hasMore")).isFalse();
+
+        String watermark = JsonPath.read(full, "$.watermark");
+        String otherWatermark = JsonPath.read(sync(otherListId, null, 100), "$.watermark");
+
+        // Nothing changed yet
+        String unchanged = sync(listId, watermark, 100);
+
+        assertThat(taskIds(unchanged)).isEmpty();
+        assertThat(deletedIds(unchanged)).isEmpty();
+
+        mockMvc.perform(patch("/api/tasks/" + done + "/status")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"state\":\"DONE\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(patch("/api/tasks/" + moved + "/move")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"targetTaskListId\":" + otherListId + "}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(delete("/api/tasks/" + deleted))
+                .andExpect(status().isNoContent());
+
+        Long added = createTask(listId, "Added");
+
+        String delta = sync(listId, watermark, 100);
+
+        assertThat(taskIds(delta)).containsExactly(done, added);
+        assertThat(deletedIds(delta)).containsExactly(moved, deleted);
+        assertThat((String) JsonPath.read(delta, "$.tasks[0].state")).isEqualTo("DONE");
+
+        String otherDelta = sync(otherListId, otherWatermark, 100);
+
+        assertThat(taskIds(otherDelta)).containsExactly(moved);
+        assertThat(deletedIds(otherDelta)).isEmpty();
+
+        // Caught up
+        String next = sync(listId, JsonPath.read(delta, "$.watermark"), 100);
+
+        assertThat(taskIds(next)).isEmpty();
+        assertThat(deletedIds(next)).isEmpty();
+    }
+
+    @Test
+    void pagingTest() throws Exception {
+
+        Long listId = createTaskList("Paged sync");
+
+        List<Long> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(createTask(listId, "Paged " + i));
+        }
+
+        List<Long> synced = new ArrayList<>();
+        String watermark = null;
+        boolean hasMore = true;
+        int pages = 0;
+
+        while (hasMore) {
+            String page = sync(listId, watermark, 2);
+
+            synced.addAll(taskIds(page));
+            watermark = JsonPath.read(page, "$.watermark");
+            hasMore = JsonPath.read(page, "$.hasMore");
+            pages++;
+        }
+
+        assertThat(synced).isEqualTo(created);
+        assertThat(pages).isEqualTo(3);
+    }
+
+    @Test
+    void invalidRequestsTest() throws Exception {
+
+        Long listId = createTaskList("Invalid sync");
+
+        mockMvc.perform(get("/api/task-lists/" + listId + "/sync")
+                        .param("since", "not-a-watermark"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/task-lists/" + listId + "/sync")
+                        .param("limit", "0"))
+                .andExpect(status().isBadRequest());
+
+        mockMvc.perform(get("/api/task-lists/999999/sync"))
+                .andExpect(status().isNotFound());
+    }
+
+    private String sync(Long taskListId, String since, int limit) throws Exception {
+
+        var request = get("/api/task-lists/" + taskListId + "/sync")
+                .param("limit", Integer.toString(limit));
+
+        if (since != null) {
+            request.param("since", since);
+        }
+
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+    }
+
+    private static List<Long> taskIds(String response) {
+
+        List<Number> ids = JsonPath.read(response, "$.tasks[*].id");
+
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    private static List<Long> deletedIds(String response) {
+
+        List<Number> ids = JsonPath.read(response, "$.deletedTaskIds");
+
+        return ids.stream().map(Number::longValue).toList();
+    }
+
+    private Long createTaskList(String name) throws Exception {
+
+        String response = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number id = JsonPath.read(response, "$.id");
+
+        return id.longValue();
+    }
+
+    private Long createTask(Long taskListId, String name) throws Exception {
+
+        String response = mockMvc.perform(post("/api/task-lists/" + taskListId + "/tasks")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {
+                                  "name": "%s",
+                                  "priority": "HIGH",
+                                  "effort": "LOW"
+                                }
+                                """.formatted(name)))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number id = JsonPath.read(response, "$.id");
+
+        return id.longValue();
+    }
+}
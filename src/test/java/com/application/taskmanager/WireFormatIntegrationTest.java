@@ -0,0 +1,227 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.config.ResponseCompressionFilter;
+import com.application.taskmanager.config.WireFormatConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Wire Format Test covering:
+ * - CBOR and Smile listings via the Accept header, with the same content as JSON
+ * - Gzip for clients that accept it, above the size threshold only
+ * - Compressed binary listings
+ * - Vary: Accept and an ETag per representation; If-Match and If-None-Match accept any of them
+ * - A flush before the body commits the headers
+ */
+@SpringBootTest(properties = {
+        "taskmanager.compression.enabled=true",
+        "taskmanager.compression.min-response-size=512"
+})
+@AutoConfigureMockMvc
+class WireFormatIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void binaryFormatsAreNegotiated() throws Exception {
+
+        Long listId = createTaskListWithTasks("Binary", 3);
+
+        JsonNode json = new ObjectMapper().readTree(
+                list(listId, MediaType.APPLICATION_JSON, null).getContentAsByteArray());
+
+        MockHttpServletResponse cbor = list(listId, MediaType.APPLICATION_CBOR, null);
+        MockHttpServletResponse smile = list(listId, WireFormatConfig.APPLICATION_SMILE, null);
+
+        assertThat(cbor.getContentType()).startsWith(MediaType.APPLICATION_CBOR_VALUE);
+        assertThat(smile.getContentType()).startsWith(WireFormatConfig.APPLICATION_SMILE.toString());
+
+        assertThat(new CBORMapper().readTree(cbor.getContentAsByteArray())).isEqualTo(json);
+        assertThat(new SmileMapper().readTree(smile.getContentAsByteArray())).isEqualTo(json);
+
+        assertThat(json).hasSize(3);
+        assertThat(cbor.getContentAsByteArray().length).isLessThan(json.toString().length());
+        assertThat(smile.getContentAsByteArray().length).isLessThan(cbor.getContentAsByteArray().length);
+    }
+
+    @Test
+    void largeResponsesAreCompressed() throws Exception {
+
+        Long listId = createTaskListWithTasks("Compressed", 10);
+
+        MockHttpServletResponse plain = list(listId, MediaType.APPLICATION_JSON, null);
+        MockHttpServletResponse gzipped = list(listId, MediaType.APPLICATION_JSON, "gzip, deflate");
+
+        assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getContentAsByteArray().length).isGreaterThan(512);
+        assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT_ENCODING);
+        assertThat(gzipped.getContentAsByteArray().length)
+                .isLessThan(plain.getContentAsByteArray().length);
+        assertThat(gunzip(gzipped.getContentAsByteArray())).isEqualTo(plain.getContentAsByteArray());
+
+        // Binary listings compress too
+        MockHttpServletResponse cbor = list(listId, MediaType.APPLICATION_CBOR, "gzip");
+
+        assertThat(cbor.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(new CBORMapper().readTree(gunzip(cbor.getContentAsByteArray())))
+                .isEqualTo(new ObjectMapper().readTree(plain.getContentAsByteArray()));
+
+        // Refused explicitly
+        assertThat(list(listId, MediaType.APPLICATION_JSON, "gzip;q=0")
+                .getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+    }
+
+    @Test
+    void smallResponsesAreNotCompressed() throws Exception {
+
+        Long listId = createTaskListWithTasks("Small", 1);
+
+        MockHttpServletResponse response = list(listId, MediaType.APPLICATION_JSON, "gzip");
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(response.getContentLength()).isEqualTo(response.getContentAsByteArray().length);
+        assertThat(JsonPath.<Integer>read(response.getContentAsString(), "$.length()")).isEqualTo(1);
+    }
+
+    @Test
+    void representationsHaveTheirOwnEntityTags() throws Exception {
+
+        Long listId = createTaskListWithTasks("Tagged", 1);
+        Number taskId = JsonPath.read(
+                list(listId, MediaType.APPLICATION_JSON, null).getContentAsString(), "$[0].id");
+
+        mockMvc.perform(get("/api/tasks/" + taskId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0\""));
+
+        MockHttpServletResponse cbor = mockMvc.perform(get("/api/tasks/" + taskId)
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+
+        assertThat(cbor.getHeaders(HttpHeaders.ETAG)).containsExactly("\"0-cbor\"");
+        assertThat(cbor.getHeaders(HttpHeaders.VARY)).contains(HttpHeaders.ACCEPT);
+
+        // A cached CBOR body is revalidated against its own tag
+        MockHttpServletResponse notModified = mockMvc.perform(get("/api/tasks/" + taskId)
+                        .accept(MediaType.APPLICATION_CBOR)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"0-cbor\""))
+                .andExpect(status().isNotModified())
+                .andReturn()
+                .getResponse();
+
+        assertThat(notModified.getHeaders(HttpHeaders.ETAG)).containsExactly("\"0-cbor\"");
+        assertThat(notModified.getContentAsByteArray()).isEmpty();
+
+        mockMvc.perform(get("/api/tasks/" + taskId).accept(WireFormatConfig.APPLICATION_SMILE))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"0-smile\""));
+
+        // The tag of any representation names the version for If-Match
+        mockMvc.perform(patch("/api/tasks/" + taskId + "/status")
+                        .header(HttpHeaders.IF_MATCH, "\"0-cbor\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"state\":\"DONE\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    void flushBeforeTheBodyCommitsTheHeaders() throws Exception {
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/stream");
+        request.addHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        new ResponseCompressionFilter(512, List.of(MediaType.APPLICATION_JSON))
+                .doFilter(request, response, (req, res) -> {
+                    res.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                    res.flushBuffer();
+
+                    assertThat(res.isCommitted()).isTrue();
+
+                    res.getOutputStream().write("[]".getBytes(StandardCharsets.UTF_8));
+                });
+
+        assertThat(response.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gunzip(response.getContentAsByteArray()))
+                .isEqualTo("[]".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private MockHttpServletResponse list(Long listId, MediaType accept, String acceptEncoding)
+            throws Exception {
+
+        var request = get("/api/task-lists/" + listId + "/tasks").accept(accept);
+
+        if (acceptEncoding != null) {
+            request.header(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+
+        return mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse();
+    }
+
+    private static byte[] gunzip(byte[] compressed) throws Exception {
+
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return in.readAllBytes();
+        }
+    }
+
+    private Long createTaskListWithTasks(String name, int tasks) throws Exception {
+
+        String listResponse = mockMvc.perform(post("/api/task-lists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"" + name + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        Number listId = JsonPath.read(listResponse, "$.id");
+
+        for (int i = 0; i < tasks; i++) {
+            mockMvc.perform(post("/api/task-lists/" + listId + "/tasks")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content("""
+                                    {
+                                      "name": "%s task %d",
+                                      "priority": "HIGH",
+                                      "effort": "LOW"
+                                    }
+                                    """.formatted(name, i)))
+                    .andExpect(status().isCreated());
+        }
+
+        return listId.longValue();
+    }
+}
@@ -0,0 +1,114 @@
+package com.application.taskmanager;
+
+import com.application.taskmanager.dto.request.CreateTaskListRequest;
+import com.application.taskmanager.dto.request.CreateTaskRequest;
+import com.application.taskmanager.dto.request.MoveTaskRequest;
+import com.application.taskmanager.dto.request.UpdateTaskStatusRequest;
+import com.application.taskmanager.dto.response.TaskResponse;
+import com.application.taskmanager.enums.Effort;
+import com.application.taskmanager.enums.Priority;
+import com.application.taskmanager.enums.TaskState;
+import com.application.taskmanager.exception.ResourceNotFoundException;
+import com.application.taskmanager.metrics.SqlStatementCounter;
+import com.application.taskmanager.repository.TaskListRepository;
+import com.application.taskmanager.service.TaskListService;
+import com.application.taskmanager.service.TaskService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Statement Count Test covering:
+ * - Update status runs two SQL statements; move and delete three (with the sync tombstone)
+ * - TaskList delete (with its tasks) runs two SQL statements
+ * - Zero affected rows surface as 404
+ */
+@SpringBootTest
+class WriteStatementCountTest {
+
+    @Autowired
+    private TaskService taskService;
+
+    @Autowired
+    private TaskListService taskListService;
+
+    @Autowired
+    private TaskListRepository taskListRepository;
+
+    @Test
+    void writePathsStayWithinStatementBudget() {
+
+        Long sourceListId = createTaskList("Source");
+        Long targetListId = createTaskList("Target");
+
+        CreateTaskRequest create = new CreateTaskRequest();
+        create.setName("Counted");
+        create.setPriority(Priority.HIGH);
+        create.setEffort(Effort.LOW);
+        Long taskId = taskService.createTask(sourceListId, create).getId();
+
+        // Warm the TaskList lookup cache, as on a running system
+        taskListRepository.existsById(targetListId);
+
+        // ==============================
+        // Update status: SELECT + UPDATE
+        // ==============================
+
+        UpdateTaskStatusRequest done = new UpdateTaskStatusRequest();
+        done.setState(TaskState.DONE);
+
+        SqlStatementCounter.reset();
+        TaskResponse updated = taskService.updateTaskStatus(taskId, done, null);
+
+        assertThat(updated.getState()).isEqualTo(TaskState.DONE);
+        assertThat(SqlStatementCounter.current()).isEqualTo(2);
+
+        // ==============================
+        // Move: SELECT + UPDATE + INSERT tombstone
+        // ==============================
+
+        MoveTaskRequest move = new MoveTaskRequest();
+        move.setTargetTaskListId(targetListId);
+
+        SqlStatementCounter.reset();
+        TaskResponse moved = taskService.moveTask(taskId, move, null);
+
+        assertThat(moved.getTaskListId()).isEqualTo(targetListId);
+        assertThat(SqlStatementCounter.current()).isEqualTo(3);
+
+        // ==============================
+        // Delete: SELECT + DELETE + INSERT tombstone
+        // ==============================
+
+        SqlStatementCounter.reset();
+        taskService.deleteTask(taskId, null);
+
+        assertThat(SqlStatementCounter.current()).isEqualTo(3);
+
+        assertThatThrownBy(() -> taskService.deleteTask(taskId, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        // ==============================
+        // Delete TaskList: DELETE tasks + DELETE list
+        // ==============================
+
+        SqlStatementCounter.reset();
+        taskListService.deleteTaskList(targetListId);
+
+        assertThat(SqlStatementCounter.current()).isEqualTo(2);
+
+        assertThatThrownBy(() -> taskListService.deleteTaskList(targetListId))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    private Long createTaskList(String name) {
+
+        CreateTaskListRequest request = new CreateTaskListRequest();
+        request.setName(name);
+
+        return taskListService.createTaskList(request).getId();
+    }
+}